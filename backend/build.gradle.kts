@@ -1,23 +1,38 @@
 plugins {
     id("org.springframework.boot") version "3.3.1"
     id("io.spring.dependency-management") version "1.1.5"
+    id("me.champeau.jmh") version "0.7.2"
     java
 }
 
 group = "ted.oauth"
 version = "0.1.0"
-java.sourceCompatibility = JavaVersion.VERSION_17
+java.sourceCompatibility = JavaVersion.VERSION_21
 
 repositories {
     mavenCentral()
 }
 
+sourceSets {
+    create("loadtest") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
+configurations["loadtestImplementation"].extendsFrom(configurations.implementation.get())
+configurations["loadtestRuntimeOnly"].extendsFrom(configurations.runtimeOnly.get())
+
 dependencies {
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-security")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-oauth2-client")
     implementation("org.springframework.boot:spring-boot-starter-validation")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("org.bouncycastle:bcprov-jdk18on:1.78.1")
 
     implementation("io.jsonwebtoken:jjwt-api:0.11.5")
     runtimeOnly("io.jsonwebtoken:jjwt-impl:0.11.5")
@@ -31,11 +46,47 @@ dependencies {
     annotationProcessor("org.springframework.boot:spring-boot-configuration-processor")
 
     runtimeOnly("org.postgresql:postgresql")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.springframework.security:spring-security-test")
+    testImplementation("io.zonky.test:embedded-postgres:2.0.7")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    jmhImplementation("org.springframework:spring-test")
+    jmhImplementation("org.mockito:mockito-core")
+
+    "loadtestImplementation"("io.zonky.test:embedded-postgres:2.0.7")
+    "loadtestImplementation"("org.hdrhistogram:HdrHistogram:2.2.2")
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+tasks.withType<JavaExec>().configureEach {
+    jvmArgs("-Djdk.httpclient.keepalive.timeout=30")
+}
+
+tasks.bootJar {
+    launchScript {
+        properties(mapOf("inlinedConfScript" to file("src/main/launch/jvm.conf").absolutePath))
+    }
+}
+
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "Boots the app against embedded PostgreSQL and a fake OAuth provider, then drives load."
+    classpath = sourceSets["loadtest"].runtimeClasspath
+    mainClass.set("ted.oauth.loadtest.LoadTestHarness")
+    providers.gradleProperty("loadTestArgs").orNull?.let { args(it.split(" ").filter(String::isNotBlank)) }
+}
+
+jmh {
+    warmupIterations.set(2)
+    iterations.set(5)
+    fork.set(1)
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes.add(it) }
+}
@@ -0,0 +1,68 @@
+package ted.oauth.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import org.springframework.test.util.ReflectionTestUtils;
+import ted.oauth.config.JwtProperties;
+import ted.oauth.config.PrincipalSource;
+import ted.oauth.user.CredentialType;
+import ted.oauth.user.Gender;
+import ted.oauth.user.User;
+import ted.oauth.user.UserSnapshot;
+
+final class BenchmarkFixtures {
+
+    static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs256";
+
+    private BenchmarkFixtures() {
+    }
+
+    static JwtProperties jwtProperties(String algorithm, long verifiedTokenCacheSize, PrincipalSource principalSource) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setAlgorithm(algorithm);
+        properties.setAllowEphemeralKeys(true);
+        properties.setAccessTokenValiditySeconds(900);
+        properties.setRefreshTokenValiditySeconds(1_209_600);
+        properties.setVerifiedTokenCacheSize(verifiedTokenCacheSize);
+        properties.setPrincipalSource(principalSource);
+        return properties;
+    }
+
+    static JwtTokenProvider jwtTokenProvider(JwtProperties properties) {
+        JwtKeyRing keyRing = new JwtKeyRing(properties, new ObjectMapper());
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(properties, keyRing, new SimpleMeterRegistry());
+        return new JwtTokenProvider(properties, keyRing, verifiedTokenCache);
+    }
+
+    static User user() {
+        User user = User.create(
+                "bench@example.com",
+                "Bench User",
+                "benchuser",
+                "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z5ZbE1p5jRzGXXhXHe6PfFq2",
+                Gender.OTHER,
+                LocalDate.of(2000, 1, 1),
+                "",
+                true
+        );
+        ReflectionTestUtils.setField(user, "id", 1L);
+        return user;
+    }
+
+    static UserSnapshot userSnapshot() {
+        return new UserSnapshot(
+                1L,
+                "bench@example.com",
+                "Bench User",
+                "benchuser",
+                CredentialType.PASSWORD,
+                Gender.OTHER,
+                LocalDate.of(2000, 1, 1),
+                "",
+                true,
+                "ROLE_USER"
+        );
+    }
+}
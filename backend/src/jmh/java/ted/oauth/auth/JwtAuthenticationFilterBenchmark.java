@@ -0,0 +1,77 @@
+package ted.oauth.auth;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import ted.oauth.config.AccessTokenRevocationProperties;
+import ted.oauth.config.JwtProperties;
+import ted.oauth.config.PrincipalSource;
+import ted.oauth.config.UserCacheProperties;
+import ted.oauth.user.UserCache;
+import ted.oauth.user.UserRepository;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NOOP_CHAIN = (request, response) -> {
+    };
+
+    @Param({"CLAIMS", "DATABASE"})
+    public PrincipalSource principalSource;
+
+    @Param({"0", "10000"})
+    public long verifiedTokenCacheSize;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = BenchmarkFixtures.jwtProperties("HS256", verifiedTokenCacheSize, principalSource);
+        JwtTokenProvider jwtTokenProvider = BenchmarkFixtures.jwtTokenProvider(jwtProperties);
+
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findById(any())).thenReturn(Optional.of(BenchmarkFixtures.user()));
+        UserCache userCache = new UserCache(userRepository, new UserCacheProperties(), new SimpleMeterRegistry());
+
+        AccessTokenRevocationStore revocationStore = new AccessTokenRevocationStore(
+                mock(RevokedAccessTokenRepository.class), new AccessTokenRevocationProperties());
+
+        filter = new JwtAuthenticationFilter(
+                jwtTokenProvider, userCache, revocationStore, new AuthMetrics(new SimpleMeterRegistry()));
+        request = new MockHttpServletRequest("GET", "/api/auth/me");
+        request.addHeader(HttpHeaders.AUTHORIZATION,
+                "Bearer " + jwtTokenProvider.generateAccessToken(BenchmarkFixtures.userSnapshot()));
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object doFilterInternal() throws Exception {
+        try {
+            filter.doFilterInternal(request, response, NOOP_CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package ted.oauth.auth;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ted.oauth.config.PrincipalSource;
+import ted.oauth.user.UserSnapshot;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtTokenProviderBenchmark {
+
+    @Param({"HS256", "RS256", "ES256"})
+    public String algorithm;
+
+    @Param({"0", "10000"})
+    public long verifiedTokenCacheSize;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private UserSnapshot user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = BenchmarkFixtures.jwtTokenProvider(
+                BenchmarkFixtures.jwtProperties(algorithm, verifiedTokenCacheSize, PrincipalSource.CLAIMS));
+        user = BenchmarkFixtures.userSnapshot();
+        token = jwtTokenProvider.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtTokenProvider.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public Optional<AccessTokenClaims> verifyAccessToken() {
+        return jwtTokenProvider.verifyAccessToken(token);
+    }
+}
@@ -0,0 +1,68 @@
+package ted.oauth.auth;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.autoconfigure.security.oauth2.client.OAuth2ClientProperties;
+import ted.oauth.config.OAuthAttributeProperties;
+import ted.oauth.social.OAuthAttributeExtractor;
+import ted.oauth.social.OAuthAttributeExtractors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OAuthAttributeExtractionBenchmark {
+
+    private static final Map<String, Map<String, Object>> SAMPLE_ATTRIBUTES = Map.of(
+            "google", Map.of("sub", "109876543210", "email", "bench@gmail.com", "name", "Bench User"),
+            "kakao", Map.of("id", 1234567890L, "kakao_account", Map.of(
+                    "email", "bench@kakao.com", "profile", Map.of("nickname", "벤치"))),
+            "naver", Map.of("resultcode", "00", "response", Map.of(
+                    "id", "naver-abc", "email", "bench@naver.com", "name", "벤치")),
+            "apple", Map.of("sub", "001234.abcdef", "email", "bench@privaterelay.appleid.com",
+                    "name", Map.of("firstName", "Bench", "lastName", "User"))
+    );
+
+    @Param({"google", "kakao", "naver", "apple"})
+    public String registrationId;
+
+    private OAuthAttributeExtractor extractor;
+    private Map<String, Object> attributes;
+
+    @Setup
+    public void setUp() {
+        OAuthAttributeProperties properties = new OAuthAttributeProperties();
+        properties.getProviders().put("google", mapping("sub", "email", "name"));
+        properties.getProviders().put("kakao", mapping("id", "kakao_account.email", "kakao_account.profile.nickname"));
+        properties.getProviders().put("naver", mapping("response.id", "response.email", "response.name"));
+        properties.getProviders().put("apple", mapping("sub", "email", "name, name.firstName + name.lastName"));
+
+        extractor = new OAuthAttributeExtractors(properties, new OAuth2ClientProperties(), List.of())
+                .get(registrationId);
+        attributes = SAMPLE_ATTRIBUTES.get(registrationId);
+    }
+
+    @Benchmark
+    public void extractAll(Blackhole blackhole) {
+        blackhole.consume(extractor.providerUserId(attributes));
+        blackhole.consume(extractor.email(attributes));
+        blackhole.consume(extractor.displayName(attributes));
+    }
+
+    private static OAuthAttributeProperties.Mapping mapping(String id, String email, String displayName) {
+        OAuthAttributeProperties.Mapping mapping = new OAuthAttributeProperties.Mapping();
+        mapping.setId(id);
+        mapping.setEmail(email);
+        mapping.setDisplayName(displayName);
+        return mapping;
+    }
+}
@@ -0,0 +1,46 @@
+package ted.oauth.auth;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ted.oauth.user.User;
+import ted.oauth.user.UserSnapshot;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UserPrincipalBenchmark {
+
+    private User user;
+    private UserSnapshot snapshot;
+    private AccessTokenClaims claims;
+
+    @Setup
+    public void setUp() {
+        user = BenchmarkFixtures.user();
+        snapshot = BenchmarkFixtures.userSnapshot();
+        Instant now = Instant.now();
+        claims = new AccessTokenClaims("jti", 1L, snapshot.email(), snapshot.role(), true, now, now.plusSeconds(900));
+    }
+
+    @Benchmark
+    public UserPrincipal fromUser() {
+        return UserPrincipal.from(user);
+    }
+
+    @Benchmark
+    public UserPrincipal fromSnapshot() {
+        return UserPrincipal.from(snapshot);
+    }
+
+    @Benchmark
+    public UserPrincipal fromClaims() {
+        return UserPrincipal.fromClaims(claims);
+    }
+}
@@ -0,0 +1,201 @@
+package ted.oauth.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+class FakeOAuthProviderServer implements AutoCloseable {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final HttpServer server;
+    private final RSAKey signingKey;
+    private final Duration latency;
+
+    FakeOAuthProviderServer(Duration latency) throws IOException, JOSEException {
+        this.latency = latency;
+        this.signingKey = new RSAKeyGenerator(2048).keyID("loadtest").generate();
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.createContext("/jwks", exchange ->
+                respond(exchange, 200, new JWKSet(signingKey.toPublicJWK()).toString().getBytes(StandardCharsets.UTF_8)));
+        this.server.createContext("/", this::handleProviderRequest);
+        this.server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handleProviderRequest(HttpExchange exchange) throws IOException {
+        String[] segments = exchange.getRequestURI().getPath().split("/");
+        if (segments.length != 3) {
+            respond(exchange, 404, new byte[0]);
+            return;
+        }
+        simulateLatency();
+
+        String provider = segments[1];
+        try {
+            switch (segments[2]) {
+                case "authorize" -> authorize(exchange, provider);
+                case "token" -> token(exchange, provider);
+                case "userinfo" -> userinfo(exchange, provider);
+                default -> respond(exchange, 404, new byte[0]);
+            }
+        } catch (JOSEException ex) {
+            respond(exchange, 500, ex.getMessage().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void authorize(HttpExchange exchange, String provider) throws IOException {
+        Map<String, String> params = parseQuery(exchange.getRequestURI().getRawQuery());
+        String code = encode(provider + "|" + params.getOrDefault("user", "anonymous") + "|" + params.getOrDefault("nonce", ""));
+        String location = params.get("redirect_uri")
+                + "?code=" + URLEncoder.encode(code, StandardCharsets.UTF_8)
+                + "&state=" + URLEncoder.encode(params.getOrDefault("state", ""), StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Location", location);
+        respond(exchange, 302, new byte[0]);
+    }
+
+    private void token(HttpExchange exchange, String provider) throws IOException, JOSEException {
+        Map<String, String> form = parseQuery(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+        String[] code = decode(form.getOrDefault("code", "")).split("\\|", -1);
+        if (code.length != 3 || !code[0].equals(provider)) {
+            respondJson(exchange, 400, Map.of("error", "invalid_grant"));
+            return;
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("access_token", encode(provider + "|" + code[1]));
+        body.put("token_type", "Bearer");
+        body.put("expires_in", 3600);
+        if (provider.equals("google") || provider.equals("apple")) {
+            body.put("scope", "openid profile email");
+            body.put("id_token", idToken(provider, code[1], code[2]));
+        }
+        respondJson(exchange, 200, body);
+    }
+
+    private void userinfo(HttpExchange exchange, String provider) throws IOException {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        String[] token = authorization != null && authorization.startsWith("Bearer ")
+                ? decode(authorization.substring(7)).split("\\|", -1)
+                : new String[0];
+        if (token.length != 2 || !token[0].equals(provider)) {
+            respondJson(exchange, 401, Map.of("error", "invalid_token"));
+            return;
+        }
+
+        String user = token[1];
+        String email = provider + "-" + user + "@loadtest.local";
+        String name = "loadtest " + user;
+        Map<String, Object> body = switch (provider) {
+            case "kakao" -> Map.of("id", Math.abs((long) user.hashCode()),
+                    "kakao_account", Map.of("email", email, "profile", Map.of("nickname", name)));
+            case "naver" -> Map.of("resultcode", "00",
+                    "response", Map.of("id", user, "email", email, "name", name));
+            default -> Map.of("sub", user, "email", email, "name", name);
+        };
+        respondJson(exchange, 200, body);
+    }
+
+    private String idToken(String provider, String user, String nonce) throws JOSEException {
+        Instant now = Instant.now();
+        JWTClaimsSet.Builder claims = new JWTClaimsSet.Builder()
+                .issuer(provider.equals("apple") ? "https://appleid.apple.com" : "accounts.google.com")
+                .subject(user)
+                .audience("loadtest-" + provider)
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plusSeconds(300)))
+                .claim("email", provider + "-" + user + "@loadtest.local")
+                .claim("name", "loadtest " + user);
+        if (!nonce.isEmpty()) {
+            claims.claim("nonce", nonce);
+        }
+
+        SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).build(),
+                claims.build());
+        jwt.sign(new RSASSASigner(signingKey));
+        return jwt.serialize();
+    }
+
+    private void simulateLatency() {
+        if (latency.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(latency.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> params = new HashMap<>();
+        if (query == null || query.isEmpty()) {
+            return params;
+        }
+        for (String pair : query.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String value) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            return "";
+        }
+    }
+
+    private static void respondJson(HttpExchange exchange, int status, Map<String, ?> body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        respond(exchange, status, JSON.writeValueAsBytes(body));
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package ted.oauth.loadtest;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+class LatencyReport {
+
+    private static final long MAX_TRACKABLE_MICROS = Duration.ofMinutes(1).toNanos() / 1_000;
+
+    private final Map<String, Histogram> histograms = new ConcurrentSkipListMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long elapsedNanos, boolean success) {
+        histograms.computeIfAbsent(endpoint, key -> new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3))
+                .recordValue(Math.min(elapsedNanos / 1_000, MAX_TRACKABLE_MICROS));
+        if (!success) {
+            errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        }
+    }
+
+    void reset() {
+        histograms.clear();
+        errors.clear();
+    }
+
+    void print(PrintStream out, Duration measured) {
+        double seconds = measured.toMillis() / 1_000.0;
+        out.printf("%-20s %10s %8s %10s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        histograms.forEach((endpoint, histogram) -> out.printf("%-20s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint,
+                histogram.getTotalCount(),
+                errors.getOrDefault(endpoint, new LongAdder()).sum(),
+                histogram.getTotalCount() / seconds,
+                millis(histogram.getValueAtPercentile(50.0)),
+                millis(histogram.getValueAtPercentile(99.0)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue())));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000.0;
+    }
+}
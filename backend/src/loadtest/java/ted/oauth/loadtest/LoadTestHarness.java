@@ -0,0 +1,105 @@
+package ted.oauth.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import ted.oauth.OauthModuleApplication;
+import ted.oauth.loadtest.LoadTestOptions.Scenario;
+
+public final class LoadTestHarness {
+
+    private static final String RACE_EMAIL_PATTERN = "'%-race%@loadtest.local'";
+
+    private LoadTestHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        boolean passed = true;
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.start();
+             FakeOAuthProviderServer provider = new FakeOAuthProviderServer(options.providerLatency());
+             ConfigurableApplicationContext context = SpringApplication.run(OauthModuleApplication.class,
+                     "--spring.profiles.active=loadtest",
+                     "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                     "--spring.datasource.username=postgres",
+                     "--spring.datasource.password=postgres",
+                     "--spring.threads.virtual.enabled=" + options.virtualThreads(),
+                     "--loadtest.provider-base-url=" + provider.baseUrl())) {
+
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            LatencyReport report = new LatencyReport();
+            TrafficDriver driver = new TrafficDriver("http://127.0.0.1:" + port, provider.baseUrl(), options, report);
+
+            System.out.printf("[loadtest] scenario=%s app=:%d provider=%s concurrency=%d mix=%s virtual-threads=%s%n",
+                    options.scenario(), port, provider.baseUrl(), options.concurrency(), options.mix(),
+                    options.virtualThreads());
+
+            if (options.scenario() == Scenario.PROVISIONING_RACE) {
+                passed = runProvisioningRace(driver, report, options, postgres.getPostgresDatabase());
+            } else {
+                runMixed(driver, report, options);
+            }
+        }
+
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+
+    private static void runMixed(TrafficDriver driver, LatencyReport report, LoadTestOptions options)
+            throws Exception {
+        driver.registerLocalUsers();
+
+        if (!options.warmup().isZero()) {
+            driver.run(options.warmup());
+        }
+        report.reset();
+
+        long startedAt = System.nanoTime();
+        driver.run(options.duration());
+        report.print(System.out, Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    private static boolean runProvisioningRace(TrafficDriver driver,
+                                               LatencyReport report,
+                                               LoadTestOptions options,
+                                               DataSource dataSource) throws Exception {
+        long startedAt = System.nanoTime();
+        int failedCallbacks = driver.provisioningRace(options.raceIdentities(), options.raceParallelism());
+        report.print(System.out, Duration.ofNanos(System.nanoTime() - startedAt));
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            long users = count(statement, "SELECT count(*) FROM users WHERE email LIKE " + RACE_EMAIL_PATTERN);
+            long accounts = count(statement, "SELECT count(*) FROM social_account WHERE email LIKE " + RACE_EMAIL_PATTERN);
+            long linkedUsers = count(statement, "SELECT count(DISTINCT user_id) FROM social_account WHERE email LIKE "
+                    + RACE_EMAIL_PATTERN);
+
+            System.out.printf("[provisioning-race] identities=%d parallel-callbacks=%d failed-callbacks=%d "
+                            + "users=%d social-accounts=%d linked-users=%d%n",
+                    options.raceIdentities(), options.raceParallelism(), failedCallbacks, users, accounts, linkedUsers);
+
+            boolean passed = failedCallbacks == 0
+                    && users == options.raceIdentities()
+                    && accounts == options.raceIdentities()
+                    && linkedUsers == options.raceIdentities();
+            System.out.println(passed ? "[provisioning-race] PASSED" : "[provisioning-race] FAILED");
+            return passed;
+        }
+    }
+
+    private static long count(Statement statement, String sql) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package ted.oauth.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+record LoadTestOptions(
+        Scenario scenario,
+        Duration warmup,
+        Duration duration,
+        int concurrency,
+        int localUsers,
+        int socialUsers,
+        Map<Operation, Integer> mix,
+        Duration providerLatency,
+        int raceIdentities,
+        int raceParallelism,
+        boolean virtualThreads
+) {
+
+    enum Scenario {
+        MIXED,
+        PROVISIONING_RACE
+    }
+
+    enum Operation {
+        LOGIN,
+        REFRESH,
+        ME,
+        OAUTH
+    }
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int separator = arg.indexOf('=');
+                values.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+
+        return new LoadTestOptions(
+                Scenario.valueOf(values.getOrDefault("scenario", "mixed").replace('-', '_').toUpperCase(Locale.ROOT)),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup-seconds", "10"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration-seconds", "60"))),
+                Integer.parseInt(values.getOrDefault("concurrency", "32")),
+                Integer.parseInt(values.getOrDefault("local-users", "200")),
+                Integer.parseInt(values.getOrDefault("social-users", "1000")),
+                parseMix(values.getOrDefault("mix", "login:10,refresh:20,me:60,oauth:10")),
+                Duration.ofMillis(Long.parseLong(values.getOrDefault("provider-latency-ms", "0"))),
+                Integer.parseInt(values.getOrDefault("race-identities", "200")),
+                Integer.parseInt(values.getOrDefault("race-parallelism", "8")),
+                Boolean.parseBoolean(values.getOrDefault("virtual-threads", "false"))
+        );
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split(":");
+            weights.put(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
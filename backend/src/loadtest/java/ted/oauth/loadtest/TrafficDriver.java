@@ -0,0 +1,233 @@
+package ted.oauth.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import ted.oauth.loadtest.LoadTestOptions.Operation;
+
+class TrafficDriver {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final String PASSWORD = "loadtest-password";
+    private static final List<String> SOCIAL_PROVIDERS = List.of("google", "kakao", "naver", "apple");
+
+    private final String appBaseUrl;
+    private final String providerBaseUrl;
+    private final LoadTestOptions options;
+    private final LatencyReport report;
+    private final Operation[] weightedOperations;
+
+    TrafficDriver(String appBaseUrl, String providerBaseUrl, LoadTestOptions options, LatencyReport report) {
+        this.appBaseUrl = appBaseUrl;
+        this.providerBaseUrl = providerBaseUrl;
+        this.options = options;
+        this.report = report;
+        this.weightedOperations = expandMix(options.mix());
+    }
+
+    void registerLocalUsers() throws IOException, InterruptedException {
+        HttpClient client = newClient();
+        for (int i = 0; i < options.localUsers(); i++) {
+            String body = JSON.writeValueAsString(Map.of(
+                    "email", localEmail(i),
+                    "name", "loadtest " + i,
+                    "nickname", "loadtest" + i,
+                    "password", PASSWORD,
+                    "gender", "OTHER",
+                    "birthday", "2000-01-01",
+                    "introduce", "load test user"));
+            send(client, "register", postJson("/api/auth/register", body));
+        }
+    }
+
+    void run(Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(options.concurrency());
+        for (int i = 0; i < options.concurrency(); i++) {
+            int workerId = i;
+            workers.submit(() -> runWorker(workerId, deadline));
+        }
+        workers.shutdown();
+        workers.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+    }
+
+    private Void runWorker(int workerId, long deadline) throws IOException, InterruptedException {
+        HttpClient client = newClient();
+        int localUser = workerId % Math.max(options.localUsers(), 1);
+        Tokens tokens = login(client, localUser);
+
+        while (System.nanoTime() < deadline) {
+            Operation operation = weightedOperations[ThreadLocalRandom.current().nextInt(weightedOperations.length)];
+            switch (operation) {
+                case LOGIN -> tokens = orElse(login(client, localUser), tokens);
+                case REFRESH -> tokens = orElse(refresh(client, tokens), tokens);
+                case ME -> me(client, tokens);
+                case OAUTH -> socialLogin(client);
+            }
+        }
+        return null;
+    }
+
+    private Tokens login(HttpClient client, int localUser) throws IOException, InterruptedException {
+        String body = JSON.writeValueAsString(Map.of("identifier", localEmail(localUser), "password", PASSWORD));
+        return readTokens(send(client, "login", postJson("/api/auth/login", body)));
+    }
+
+    private Tokens refresh(HttpClient client, Tokens tokens) throws IOException, InterruptedException {
+        if (tokens == null) {
+            return null;
+        }
+        String body = JSON.writeValueAsString(Map.of("refreshToken", tokens.refreshToken()));
+        return readTokens(send(client, "refresh", postJson("/api/auth/refresh", body)));
+    }
+
+    private void me(HttpClient client, Tokens tokens) throws IOException, InterruptedException {
+        if (tokens == null) {
+            return;
+        }
+        send(client, "me", HttpRequest.newBuilder(URI.create(appBaseUrl + "/api/auth/me"))
+                .header("Authorization", "Bearer " + tokens.accessToken())
+                .GET()
+                .build());
+    }
+
+    int provisioningRace(int identities, int parallelism) throws InterruptedException {
+        ExecutorService callbacks = Executors.newFixedThreadPool(parallelism);
+        int failures = 0;
+        try {
+            for (int i = 0; i < identities; i++) {
+                String provider = SOCIAL_PROVIDERS.get(i % SOCIAL_PROVIDERS.size());
+                String user = "race" + i;
+
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Boolean>> results = new ArrayList<>();
+                for (int k = 0; k < parallelism; k++) {
+                    HttpClient client = newClient();
+                    String callbackUrl = beginSocialLogin(client, provider, user);
+                    results.add(callbacks.submit(() -> {
+                        start.await();
+                        return callbackUrl != null && completeSocialLogin(client, provider, callbackUrl);
+                    }));
+                }
+                start.countDown();
+
+                for (Future<Boolean> result : results) {
+                    if (!result.get()) {
+                        failures++;
+                    }
+                }
+            }
+        } catch (IOException | ExecutionException ex) {
+            throw new IllegalStateException("provisioning race aborted", ex);
+        } finally {
+            callbacks.shutdownNow();
+        }
+        return failures;
+    }
+
+    private void socialLogin(HttpClient client) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String provider = SOCIAL_PROVIDERS.get(random.nextInt(SOCIAL_PROVIDERS.size()));
+        String user = "social" + random.nextInt(Math.max(options.socialUsers(), 1));
+
+        String callbackUrl = beginSocialLogin(client, provider, user);
+        if (callbackUrl != null) {
+            completeSocialLogin(client, provider, callbackUrl);
+        }
+    }
+
+    private String beginSocialLogin(HttpClient client, String provider, String user)
+            throws IOException, InterruptedException {
+        HttpResponse<String> authorization = send(client, "oauth2-authorize",
+                HttpRequest.newBuilder(URI.create(appBaseUrl + "/oauth2/authorization/" + provider)).GET().build());
+        String providerAuthorizeUrl = authorization.headers().firstValue("Location").orElse(null);
+        if (providerAuthorizeUrl == null || !providerAuthorizeUrl.startsWith(providerBaseUrl)) {
+            return null;
+        }
+
+        HttpResponse<String> consent = client.send(
+                HttpRequest.newBuilder(URI.create(providerAuthorizeUrl + "&user=" + user)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        return consent.headers().firstValue("Location").orElse(null);
+    }
+
+    private boolean completeSocialLogin(HttpClient client, String provider, String callbackUrl)
+            throws IOException, InterruptedException {
+        long startedAt = System.nanoTime();
+        HttpResponse<String> callback = client.send(
+                HttpRequest.newBuilder(URI.create(callbackUrl)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        boolean issued = callback.statusCode() == 302
+                && callback.headers().firstValue("Location").map(location -> location.contains("access_token=")).orElse(false);
+        report.record("oauth2-callback/" + provider, System.nanoTime() - startedAt, issued);
+        return issued;
+    }
+
+    private HttpResponse<String> send(HttpClient client, String endpoint, HttpRequest request)
+            throws IOException, InterruptedException {
+        long startedAt = System.nanoTime();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        report.record(endpoint, System.nanoTime() - startedAt, response.statusCode() < 400);
+        return response;
+    }
+
+    private HttpRequest postJson(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(appBaseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static Tokens readTokens(HttpResponse<String> response) throws IOException {
+        if (response.statusCode() != 200) {
+            return null;
+        }
+        JsonNode data = JSON.readTree(response.body()).path("data");
+        return new Tokens(data.path("accessToken").asText(), data.path("refreshToken").asText());
+    }
+
+    private static Tokens orElse(Tokens next, Tokens current) {
+        return next != null ? next : current;
+    }
+
+    private static String localEmail(int index) {
+        return "loadtest" + index + "@loadtest.local";
+    }
+
+    private static HttpClient newClient() {
+        return HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    private static Operation[] expandMix(Map<Operation, Integer> mix) {
+        List<Operation> expanded = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                expanded.add(operation);
+            }
+        });
+        return expanded.toArray(Operation[]::new);
+    }
+
+    private record Tokens(String accessToken, String refreshToken) {
+    }
+}
@@ -0,0 +1,14 @@
+package ted.oauth.auth;
+
+import java.time.Instant;
+
+public record AccessTokenClaims(
+        String tokenId,
+        Long userId,
+        String email,
+        String role,
+        boolean profileCompleted,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+}
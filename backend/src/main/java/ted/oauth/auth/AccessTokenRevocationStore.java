@@ -0,0 +1,84 @@
+package ted.oauth.auth;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ted.oauth.config.AccessTokenRevocationProperties;
+
+@Slf4j
+@Component
+public class AccessTokenRevocationStore {
+
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final AccessTokenRevocationProperties properties;
+    private final ConcurrentHashMap<String, Long> revokedUntil = new ConcurrentHashMap<>();
+    private volatile Instant syncedAt;
+
+    public AccessTokenRevocationStore(RevokedAccessTokenRepository revokedAccessTokenRepository,
+                                      AccessTokenRevocationProperties properties) {
+        this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+        this.properties = properties;
+    }
+
+    public boolean isRevoked(String jti) {
+        return jti != null && revokedUntil.containsKey(jti);
+    }
+
+    public void revoke(String jti, Instant expiresAt) {
+        if (jti == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        revokedAccessTokenRepository.save(RevokedAccessToken.create(jti, expiresAt));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            revokedUntil.put(jti, expiresAt.getEpochSecond());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                revokedUntil.put(jti, expiresAt.getEpochSecond());
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadActiveRevocations() {
+        Instant now = Instant.now();
+        remember(revokedAccessTokenRepository.findByExpiresAtAfter(now));
+        syncedAt = now;
+        log.debug("[AccessTokenRevocation] loaded {} active revocations", revokedUntil.size());
+    }
+
+    @Scheduled(fixedDelayString = "${access-token-revocation.sync-interval:PT5S}")
+    public void syncRevocations() {
+        Instant lastSync = syncedAt;
+        if (lastSync == null) {
+            return;
+        }
+        Instant now = Instant.now();
+        remember(revokedAccessTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(
+                lastSync.minus(properties.getSyncOverlap()), now));
+        syncedAt = now;
+
+        long nowEpochSecond = now.getEpochSecond();
+        revokedUntil.values().removeIf(expiresAt -> expiresAt < nowEpochSecond);
+    }
+
+    @Scheduled(fixedDelayString = "${access-token-revocation.purge-interval:PT10M}")
+    public void purgeExpiredRevocations() {
+        revokedAccessTokenRepository.deleteExpired(Instant.now());
+    }
+
+    private void remember(List<RevokedAccessToken> revocations) {
+        for (RevokedAccessToken revocation : revocations) {
+            revokedUntil.put(revocation.getJti(), revocation.getExpiresAt().getEpochSecond());
+        }
+    }
+}
@@ -3,6 +3,7 @@ package ted.oauth.auth;
 import jakarta.validation.Valid;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -10,6 +11,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import ted.oauth.auth.dto.ApiResponse;
@@ -19,7 +21,8 @@ import ted.oauth.auth.dto.TokenRefreshRequest;
 import ted.oauth.auth.dto.TokenResponse;
 import ted.oauth.auth.dto.UserProfileResponse;
 import ted.oauth.user.User;
-import ted.oauth.user.UserRepository;
+import ted.oauth.user.UserCache;
+import ted.oauth.user.UserSnapshot;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -27,7 +30,7 @@ import ted.oauth.user.UserRepository;
 public class AuthController {
 
     private final AuthService authService;
-    private final UserRepository userRepository;
+    private final UserCache userCache;
 
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<TokenResponse>> login(@Valid @RequestBody LoginRequest request) {
@@ -48,28 +51,44 @@ public class AuthController {
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<Void>> logout(@Valid @RequestBody TokenRefreshRequest request) {
-        authService.logout(request);
+    public ResponseEntity<ApiResponse<Void>> logout(
+            @Valid @RequestBody TokenRefreshRequest request,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        authService.logout(request, authorization);
         return ResponseEntity.ok(ApiResponse.ok("로그아웃되었습니다.", null));
     }
 
+    @PostMapping("/logout-all")
+    public ResponseEntity<ApiResponse<Void>> logoutAll(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal
+                && principal.getId() != null) {
+            authService.logoutAll(principal, authorization);
+            return ResponseEntity.ok(ApiResponse.ok("모든 기기에서 로그아웃되었습니다.", null));
+        }
+
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(ApiResponse.fail("로그인된 사용자가 없습니다."));
+    }
+
     @GetMapping("/me")
     public ResponseEntity<ApiResponse<UserProfileResponse>> me() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
-            Optional<User> userOptional = Optional.ofNullable(principal.getId())
-                    .flatMap(userRepository::findById);
+            Optional<UserSnapshot> userOptional = Optional.ofNullable(principal.getId())
+                    .flatMap(userCache::findById);
             if (userOptional.isPresent()) {
-                User user = userOptional.get();
+                UserSnapshot user = userOptional.get();
                 UserProfileResponse response = new UserProfileResponse(
-                        user.getId(),
-                        user.getEmail(),
-                        user.getName(),
-                        user.getNickname(),
-                        user.getGender(),
-                        user.getBirthday(),
-                        user.getIntroduce(),
-                        user.isProfileCompleted()
+                        user.id(),
+                        user.email(),
+                        user.name(),
+                        user.nickname(),
+                        user.gender(),
+                        user.birthday(),
+                        user.introduce(),
+                        user.profileCompleted()
                 );
                 return ResponseEntity.ok(ApiResponse.ok(response));
             }
@@ -0,0 +1,173 @@
+package ted.oauth.auth;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import ted.oauth.social.AuthProvider;
+
+@Component
+public class AuthMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Timer jwtVerifyValid;
+    private final Timer jwtVerifyInvalid;
+    private final Timer principalLoadClaims;
+    private final Timer principalLoadDatabase;
+    private final Timer passwordMatched;
+    private final Timer passwordMismatched;
+    private final Timer passwordEncode;
+    private final Timer refreshRotated;
+    private final Timer refreshRejected;
+    private final Counter passwordHashingRejected;
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.jwtVerifyValid = timer("auth.jwt.verify", "Access token parse and signature verification", "outcome", "valid");
+        this.jwtVerifyInvalid = timer("auth.jwt.verify", "Access token parse and signature verification", "outcome", "invalid");
+        this.principalLoadClaims = timer("auth.principal.load", "Authenticated principal construction", "source", "claims");
+        this.principalLoadDatabase = timer("auth.principal.load", "Authenticated principal construction", "source", "database");
+        this.passwordMatched = timer("auth.password.match", "Password hash comparison", "outcome", "matched");
+        this.passwordMismatched = timer("auth.password.match", "Password hash comparison", "outcome", "mismatched");
+        this.passwordEncode = timer("auth.password.encode", "Password hashing", null, null);
+        this.refreshRotated = timer("auth.refresh.rotate", "Refresh token rotation", "outcome", "rotated");
+        this.refreshRejected = timer("auth.refresh.rotate", "Refresh token rotation", "outcome", "rejected");
+        this.passwordHashingRejected = Counter.builder("auth.password.rejected")
+                .description("Password hashing requests rejected because the hashing queue was full")
+                .register(meterRegistry);
+    }
+
+    public long start() {
+        return System.nanoTime();
+    }
+
+    public void recordJwtVerify(long startedAt, boolean valid) {
+        stop(valid ? jwtVerifyValid : jwtVerifyInvalid, startedAt);
+    }
+
+    public void recordPrincipalLoad(long startedAt, boolean fromClaims) {
+        stop(fromClaims ? principalLoadClaims : principalLoadDatabase, startedAt);
+    }
+
+    public void recordPasswordMatch(long startedAt, boolean matched) {
+        stop(matched ? passwordMatched : passwordMismatched, startedAt);
+    }
+
+    public void recordPasswordEncode(long startedAt) {
+        stop(passwordEncode, startedAt);
+    }
+
+    public void recordPasswordHashingRejected() {
+        passwordHashingRejected.increment();
+    }
+
+    public void monitorPasswordHashing(ThreadPoolExecutor executor) {
+        Gauge.builder("auth.password.queue", executor, pool -> pool.getQueue().size())
+                .description("Password hashing requests waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing threads currently busy")
+                .register(meterRegistry);
+    }
+
+    public void recordLoginRateLimited(String key) {
+        Counter.builder("auth.login.rate_limited")
+                .description("Login attempts rejected by the rate limiter before authentication")
+                .tag("key", key)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void recordRefreshRotation(long startedAt, boolean rotated) {
+        stop(rotated ? refreshRotated : refreshRejected, startedAt);
+    }
+
+    public void recordSocialProvisioning(long startedAt, AuthProvider provider, String outcome) {
+        Timer.builder("auth.social.provision")
+                .description("Social account and user provisioning")
+                .tag("provider", provider.name().toLowerCase(Locale.ROOT))
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordUserInfoFetch(long startedAt, String registrationId, boolean success) {
+        Timer.builder("auth.oauth.userinfo")
+                .description("OAuth provider userinfo fetch")
+                .tag("provider", registrationId)
+                .tag("outcome", success ? "success" : "failure")
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordOidcUserSource(String registrationId, String source) {
+        Counter.builder("auth.oidc.user")
+                .description("OIDC logins by where the user claims came from")
+                .tag("provider", registrationId)
+                .tag("source", source)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void recordProviderCall(long startedAt, String registrationId, String endpoint, String outcome) {
+        Timer.builder("auth.oauth.http")
+                .description("OAuth provider HTTP exchange")
+                .tag("provider", registrationId)
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordProviderCallRejected(String registrationId, String endpoint, String reason) {
+        Counter.builder("auth.oauth.rejected")
+                .description("OAuth provider calls rejected before reaching the provider")
+                .tag("provider", registrationId)
+                .tag("endpoint", endpoint)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void monitorProviderBulkhead(String registrationId, String endpoint, Semaphore permits, int capacity) {
+        Gauge.builder("auth.oauth.inflight", permits, bulkhead -> capacity - bulkhead.availablePermits())
+                .description("OAuth provider calls currently holding a bulkhead permit")
+                .tag("provider", registrationId)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+    }
+
+    public void monitorProviderCircuit(String registrationId, Supplier<Number> state) {
+        Gauge.builder("auth.oauth.circuit", state)
+                .description("OAuth provider circuit breaker state (0 closed, 1 open, 2 half-open)")
+                .tag("provider", registrationId)
+                .register(meterRegistry);
+    }
+
+    public void recordNicknameAttempts(AuthProvider provider, int attempts) {
+        DistributionSummary.builder("auth.nickname.attempts")
+                .description("Insert attempts needed to allocate a unique nickname")
+                .tag("provider", provider.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry)
+                .record(attempts);
+    }
+
+    private Timer timer(String name, String description, String tagKey, String tagValue) {
+        Timer.Builder builder = Timer.builder(name).description(description);
+        if (tagKey != null) {
+            builder.tag(tagKey, tagValue);
+        }
+        return builder.register(meterRegistry);
+    }
+
+    private static void stop(Timer timer, long startedAt) {
+        timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+}
@@ -2,18 +2,22 @@ package ted.oauth.auth;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import ted.oauth.auth.dto.LoginRequest;
 import ted.oauth.auth.dto.RegisterRequest;
 import ted.oauth.auth.dto.TokenRefreshRequest;
 import ted.oauth.auth.dto.TokenResponse;
 import ted.oauth.user.User;
+import ted.oauth.user.UserCache;
 import ted.oauth.user.UserRepository;
+import ted.oauth.user.UserSnapshot;
 
 @Service
 @Transactional
@@ -21,23 +25,24 @@ import ted.oauth.user.UserRepository;
 public class AuthService {
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenService jwtTokenService;
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokenResponse login(LoginRequest request) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.identifier(), request.password())
-        );
+        Authentication authentication = authenticate(request);
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
         UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
-        User user = userRepository.findById(principal.getId())
+        UserSnapshot user = userCache.findById(principal.getId())
                 .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
 
         return jwtTokenService.issueTokens(user);
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User register(RegisterRequest request) {
         validateDuplicate(request.email(), request.nickname());
         String encodedPassword = passwordEncoder.encode(request.password());
@@ -58,11 +63,31 @@ public class AuthService {
         return jwtTokenService.refreshTokens(request.refreshToken());
     }
 
-    public void logout(TokenRefreshRequest request) {
+    public void logout(TokenRefreshRequest request, String authorizationHeader) {
         jwtTokenService.revokeRefreshToken(request.refreshToken());
+        jwtTokenService.revokeAccessToken(authorizationHeader);
+        SecurityContextHolder.clearContext();
+    }
+
+    public void logoutAll(UserPrincipal principal, String authorizationHeader) {
+        jwtTokenService.revokeAllSessions(principal.getId());
+        jwtTokenService.revokeAccessToken(authorizationHeader);
         SecurityContextHolder.clearContext();
     }
 
+    private Authentication authenticate(LoginRequest request) {
+        try {
+            return authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(request.identifier(), request.password())
+            );
+        } catch (InternalAuthenticationServiceException ex) {
+            if (ex.getCause() instanceof PasswordHashingOverloadedException overloaded) {
+                throw overloaded;
+            }
+            throw ex;
+        }
+    }
+
     private void validateDuplicate(String email, String nickname) {
         if (userRepository.existsByEmail(email)) {
             throw new IllegalArgumentException("이미 사용 중인 이메일입니다.");
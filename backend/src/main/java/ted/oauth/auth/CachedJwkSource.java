@@ -0,0 +1,122 @@
+package ted.oauth.auth;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestOperations;
+
+@Slf4j
+class CachedJwkSource implements JWKSource<SecurityContext> {
+
+    private final String jwkSetUri;
+    private final RestOperations restOperations;
+    private final long minRefreshGapNanos;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Keys keys = new Keys(List.of(), Map.of());
+    private volatile long refreshedAt = Long.MIN_VALUE;
+
+    CachedJwkSource(String jwkSetUri, RestOperations restOperations, Duration minRefreshGap) {
+        this.jwkSetUri = jwkSetUri;
+        this.restOperations = restOperations;
+        this.minRefreshGapNanos = minRefreshGap.toNanos();
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector selector, SecurityContext context) throws KeySourceException {
+        List<JWK> matches = select(keys, selector);
+        if (!matches.isEmpty() || !refreshIfStale()) {
+            return matches;
+        }
+        return select(keys, selector);
+    }
+
+    void refresh() {
+        refreshLock.lock();
+        try {
+            load();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private boolean refreshIfStale() throws KeySourceException {
+        long observed = refreshedAt;
+        refreshLock.lock();
+        try {
+            if (refreshedAt != observed) {
+                return true;
+            }
+            if (observed != Long.MIN_VALUE && System.nanoTime() - observed < minRefreshGapNanos) {
+                return false;
+            }
+            if (!load()) {
+                throw new KeySourceException("JWK Set을 가져오지 못했습니다: " + jwkSetUri);
+            }
+            return true;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private boolean load() {
+        try {
+            String body = restOperations.getForObject(jwkSetUri, String.class);
+            if (body == null) {
+                log.warn("[JWKS] empty response from {}", jwkSetUri);
+                return false;
+            }
+            JWKSet jwkSet = JWKSet.parse(body);
+            Map<String, List<JWK>> byKeyId = new HashMap<>();
+            for (JWK jwk : jwkSet.getKeys()) {
+                if (jwk.getKeyID() != null) {
+                    byKeyId.computeIfAbsent(jwk.getKeyID(), kid -> new ArrayList<>()).add(jwk);
+                }
+            }
+            keys = new Keys(List.copyOf(jwkSet.getKeys()), Map.copyOf(byKeyId));
+            log.debug("[JWKS] loaded {} keys from {}", jwkSet.getKeys().size(), jwkSetUri);
+            return true;
+        } catch (RestClientException | ParseException ex) {
+            log.warn("[JWKS] refresh failed for {}: {}", jwkSetUri, ex.getMessage());
+            return false;
+        } finally {
+            refreshedAt = System.nanoTime();
+        }
+    }
+
+    private static List<JWK> select(Keys keys, JWKSelector selector) {
+        Set<String> keyIds = selector.getMatcher().getKeyIDs();
+        if (keyIds == null || keyIds.isEmpty()) {
+            return selector.select(new JWKSet(keys.all()));
+        }
+
+        List<JWK> matches = new ArrayList<>(1);
+        for (String keyId : keyIds) {
+            if (keyId == null) {
+                continue;
+            }
+            for (JWK jwk : keys.byKeyId().getOrDefault(keyId, List.of())) {
+                if (selector.getMatcher().matches(jwk)) {
+                    matches.add(jwk);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private record Keys(List<JWK> all, Map<String, List<JWK>> byKeyId) {
+    }
+}
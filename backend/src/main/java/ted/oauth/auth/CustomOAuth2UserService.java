@@ -1,102 +1,64 @@
 package ted.oauth.auth;
 
-import java.util.Locale;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import ted.oauth.social.AuthProvider;
+import ted.oauth.social.OAuthAttributeExtractor;
+import ted.oauth.social.OAuthAttributeExtractors;
 import ted.oauth.user.User;
 
 @Slf4j
 @Service
-@Transactional
 @RequiredArgsConstructor
-public class CustomOAuth2UserService extends DefaultOAuth2UserService {
+public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
 
     private final SocialUserProvisioningService socialProvisioningService;
+    private final OAuthAttributeExtractors attributeExtractors;
+    private final OAuthHttpClients oAuthHttpClients;
+    private final AuthMetrics authMetrics;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
-        log.info("[OAuth2] loadUser registrationId={}", userRequest.getClientRegistration().getRegistrationId());
-        OAuth2User oAuth2User = super.loadUser(userRequest);
+        String registrationId = userRequest.getClientRegistration().getRegistrationId();
+        log.debug("[OAuth2] loadUser registrationId={}", registrationId);
+        OAuth2User oAuth2User = fetchUserInfo(userRequest, registrationId);
 
-        AuthProvider provider = AuthProvider.valueOf(userRequest.getClientRegistration()
-                .getRegistrationId()
-                .toUpperCase(Locale.ROOT));
+        return provision(registrationId, oAuth2User.getAttributes());
+    }
 
-        Map<String, Object> attributes = oAuth2User.getAttributes();
-        String providerUserId = extractProviderUserId(provider, attributes);
-        String email = extractEmail(provider, attributes);
-        String name = extractDisplayName(provider, attributes);
+    UserPrincipal provision(String registrationId, Map<String, Object> attributes) {
+        OAuthAttributeExtractor extractor = attributeExtractors.get(registrationId);
+        String providerUserId = extractor.providerUserId(attributes);
+        if (providerUserId == null) {
+            throw new OAuth2AuthenticationException(new OAuth2Error("invalid_user_info"),
+                    "제공자 응답에서 사용자 식별자를 찾을 수 없습니다: " + registrationId);
+        }
+        String email = extractor.email(attributes);
+        String name = extractor.displayName(attributes);
 
+        AuthProvider provider = AuthProvider.fromRegistrationId(registrationId);
         User user = socialProvisioningService.ensureUser(provider, providerUserId, email, name);
-        log.info("[OAuth2] user ensured userId={} email={}", user.getId(), user.getEmail());
-
-        return UserPrincipal.from(user).withAttributes(attributes);
-    }
-
-    private String extractProviderUserId(AuthProvider provider, Map<String, Object> attributes) {
-        return switch (provider) {
-            case GOOGLE -> (String) attributes.get("sub");
-            case KAKAO -> String.valueOf(attributes.get("id"));
-            case NAVER -> {
-                Map<String, Object> response = (Map<String, Object>) attributes.get("response");
-                yield response != null ? (String) response.get("id") : null;
-            }
-            case APPLE -> (String) attributes.get("sub");
-        };
-    }
+        log.debug("[OAuth2] user ensured userId={} email={}", user.getId(), user.getEmail());
 
-    private String extractEmail(AuthProvider provider, Map<String, Object> attributes) {
-        return switch (provider) {
-            case GOOGLE -> (String) attributes.get("email");
-            case KAKAO -> {
-                Map<String, Object> account = (Map<String, Object>) attributes.get("kakao_account");
-                yield account != null ? (String) account.get("email") : null;
-            }
-            case NAVER -> {
-                Map<String, Object> response = (Map<String, Object>) attributes.get("response");
-                yield response != null ? (String) response.get("email") : null;
-            }
-            case APPLE -> (String) attributes.get("email");
-        };
+        return UserPrincipal.from(user).withProvider(provider).withAttributes(attributes);
     }
 
-    private String extractDisplayName(AuthProvider provider, Map<String, Object> attributes) {
-        return switch (provider) {
-            case GOOGLE -> (String) attributes.get("name");
-            case KAKAO -> {
-                Map<String, Object> account = (Map<String, Object>) attributes.get("kakao_account");
-                if (account == null) {
-                    yield null;
-                }
-                Map<String, Object> profile = (Map<String, Object>) account.get("profile");
-                yield profile != null ? (String) profile.get("nickname") : null;
-            }
-            case NAVER -> {
-                Map<String, Object> response = (Map<String, Object>) attributes.get("response");
-                yield response != null ? (String) response.get("name") : null;
-            }
-            case APPLE -> {
-                Object nameAttr = attributes.get("name");
-                if (nameAttr instanceof String name) {
-                    yield name;
-                }
-                if (nameAttr instanceof Map<?, ?> nameMap) {
-                    Object first = nameMap.get("firstName");
-                    Object last = nameMap.get("lastName");
-                    String combined = ((first != null ? first.toString() : "") + " "
-                            + (last != null ? last.toString() : "")).trim();
-                    yield combined.isEmpty() ? null : combined;
-                }
-                yield null;
-            }
-        };
+    private OAuth2User fetchUserInfo(OAuth2UserRequest userRequest, String registrationId) {
+        long startedAt = authMetrics.start();
+        boolean success = false;
+        try {
+            OAuth2User oAuth2User = oAuthHttpClients.userInfoService().loadUser(userRequest);
+            success = true;
+            return oAuth2User;
+        } finally {
+            authMetrics.recordUserInfoFetch(startedAt, registrationId, success);
+        }
     }
 }
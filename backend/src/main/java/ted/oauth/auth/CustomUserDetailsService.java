@@ -2,28 +2,46 @@ package ted.oauth.auth;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import ted.oauth.user.User;
+import ted.oauth.user.UserCache;
 import ted.oauth.user.UserRepository;
+import ted.oauth.user.UserService;
+import ted.oauth.user.UserSnapshot;
 
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
+    private final UserCache userCache;
     private final UserRepository userRepository;
+    private final UserService userService;
 
     @Override
     public UserDetails loadUserByUsername(String identifier) throws UsernameNotFoundException {
-        User user = identifier.contains("@")
-                ? userRepository.findByEmail(identifier).orElseThrow(() ->
+        UserSnapshot user = identifier.contains("@")
+                ? userCache.findByEmail(identifier).orElseThrow(() ->
                         new UsernameNotFoundException("이메일을 찾을 수 없습니다."))
-                : userRepository.findByNickname(identifier).orElseThrow(() ->
+                : userCache.findByNickname(identifier).orElseThrow(() ->
                         new UsernameNotFoundException("닉네임을 찾을 수 없습니다."));
 
-        return UserPrincipal.from(user);
+        String password = user.hasLocalPassword()
+                ? userRepository.findPasswordById(user.id()).orElse(null)
+                : null;
+        if (password == null) {
+            throw new UsernameNotFoundException("비밀번호로 로그인할 수 없는 소셜 계정입니다.");
+        }
+        return UserPrincipal.from(user, password);
+    }
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        UserPrincipal principal = (UserPrincipal) userDetails;
+        return UserPrincipal.from(userService.updatePassword(principal.getId(), newPassword));
     }
 }
@@ -0,0 +1,42 @@
+package ted.oauth.auth;
+
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.oauth2.client.oidc.userinfo.OidcUserRequest;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.oidc.IdTokenClaimNames;
+import org.springframework.security.oauth2.core.oidc.OidcIdToken;
+import org.springframework.security.oauth2.core.oidc.user.DefaultOidcUser;
+import org.springframework.security.oauth2.core.oidc.user.OidcUser;
+import org.springframework.security.oauth2.core.oidc.user.OidcUserAuthority;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+@Service
+@RequiredArgsConstructor
+public class IdTokenOidcUserService implements OAuth2UserService<OidcUserRequest, OidcUser> {
+
+    private final OAuthHttpClients oAuthHttpClients;
+    private final AuthMetrics authMetrics;
+
+    @Override
+    public OidcUser loadUser(OidcUserRequest userRequest) throws OAuth2AuthenticationException {
+        ClientRegistration registration = userRequest.getClientRegistration();
+        ClientRegistration.ProviderDetails.UserInfoEndpoint userInfoEndpoint =
+                registration.getProviderDetails().getUserInfoEndpoint();
+        OidcIdToken idToken = userRequest.getIdToken();
+
+        if (idToken.getEmail() == null && StringUtils.hasText(userInfoEndpoint.getUri())) {
+            authMetrics.recordOidcUserSource(registration.getRegistrationId(), "userinfo");
+            return oAuthHttpClients.oidcUserService().loadUser(userRequest);
+        }
+
+        authMetrics.recordOidcUserSource(registration.getRegistrationId(), "id_token");
+        String nameAttribute = StringUtils.hasText(userInfoEndpoint.getUserNameAttributeName())
+                ? userInfoEndpoint.getUserNameAttributeName()
+                : IdTokenClaimNames.SUB;
+        return new DefaultOidcUser(Set.of(new OidcUserAuthority(idToken)), idToken, nameAttribute);
+    }
+}
@@ -0,0 +1,34 @@
+package ted.oauth.auth;
+
+import java.time.Duration;
+import java.util.HexFormat;
+import org.springframework.scheduling.annotation.Scheduled;
+
+public class JdbcLoginRateLimitStore implements LoginRateLimitStore {
+
+    private final LoginAttemptWindowRepository repository;
+    private final Duration purgeWindow;
+
+    public JdbcLoginRateLimitStore(LoginAttemptWindowRepository repository, Duration purgeWindow) {
+        this.repository = repository;
+        this.purgeWindow = purgeWindow;
+    }
+
+    @Override
+    public double recordAttempt(LoginRateLimitScope scope, String key, Duration window) {
+        long now = System.currentTimeMillis();
+        long windowMillis = window.toMillis();
+        long epoch = now / windowMillis;
+        double previousWeight = 1.0 - (double) (now % windowMillis) / windowMillis;
+
+        String digest = scope.tag() + ":" + HexFormat.of().formatHex(TokenDigest.sha256(key));
+        int current = repository.incrementAttempts(digest + ":" + epoch, epoch);
+        int previous = repository.findAttempts(digest + ":" + (epoch - 1)).orElse(0);
+        return previous * previousWeight + current;
+    }
+
+    @Scheduled(fixedDelayString = "${login-rate-limit.window:PT1M}")
+    public void purgeExpiredWindows() {
+        repository.deleteOlderThan(System.currentTimeMillis() / purgeWindow.toMillis() - 1);
+    }
+}
@@ -7,13 +7,13 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import ted.oauth.user.User;
-import ted.oauth.user.UserRepository;
+import ted.oauth.user.UserCache;
 
 @Slf4j
 @Component
@@ -21,19 +21,21 @@ import ted.oauth.user.UserRepository;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final AccessTokenRevocationStore revocationStore;
+    private final AuthMetrics authMetrics;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
         try {
-            String token = resolveAccessToken(request);
-            if (token != null && jwtTokenProvider.validateAccessToken(token)) {
-                Long userId = jwtTokenProvider.extractUserId(token);
-                User user = userRepository.findById(userId).orElse(null);
-                if (user != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UserPrincipal principal = UserPrincipal.from(user);
+            String token = jwtTokenProvider.resolveBearerToken(request.getHeader(HttpHeaders.AUTHORIZATION));
+            AccessTokenClaims claims = token != null ? verify(token) : null;
+            if (claims != null && !revocationStore.isRevoked(claims.tokenId())
+                    && SecurityContextHolder.getContext().getAuthentication() == null) {
+                UserPrincipal principal = loadPrincipal(claims);
+                if (principal != null) {
                     UsernamePasswordAuthenticationToken authentication =
                             new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -47,11 +49,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private String resolveAccessToken(HttpServletRequest request) {
-        String header = request.getHeader("Authorization");
-        if (header != null && header.startsWith("Bearer ")) {
-            return header.substring(7);
-        }
-        return null;
+    private AccessTokenClaims verify(String token) {
+        long startedAt = authMetrics.start();
+        AccessTokenClaims claims = jwtTokenProvider.verifyAccessToken(token).orElse(null);
+        authMetrics.recordJwtVerify(startedAt, claims != null);
+        return claims;
+    }
+
+    private UserPrincipal loadPrincipal(AccessTokenClaims claims) {
+        long startedAt = authMetrics.start();
+        boolean fromClaims = jwtTokenProvider.isPrincipalFromClaims();
+        UserPrincipal principal = fromClaims
+                ? UserPrincipal.fromClaims(claims)
+                : userCache.findById(claims.userId()).map(UserPrincipal::from).orElse(null);
+        authMetrics.recordPrincipalLoad(startedAt, fromClaims);
+        return principal;
     }
 }
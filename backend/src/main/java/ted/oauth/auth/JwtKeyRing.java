@@ -0,0 +1,195 @@
+package ted.oauth.auth;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import ted.oauth.config.JwtProperties;
+
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+    private final SignatureAlgorithm algorithm;
+    private final String activeKeyId;
+    private final Key signingKey;
+    private final Map<String, Key> verificationKeys;
+    private final Key hmacKey;
+    private final byte[] jwks;
+    private final String jwksEtag;
+
+    public JwtKeyRing(JwtProperties jwtProperties, ObjectMapper objectMapper) {
+        this.algorithm = SignatureAlgorithm.forName(jwtProperties.getAlgorithm());
+
+        if (algorithm.isHmac()) {
+            this.hmacKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes());
+            this.activeKeyId = null;
+            this.signingKey = hmacKey;
+            this.verificationKeys = Map.of();
+        } else {
+            this.hmacKey = null;
+            Map<String, Key> publicKeys = new LinkedHashMap<>();
+            Key activeSigningKey = null;
+            String activeKid = jwtProperties.getActiveKeyId();
+
+            for (JwtProperties.SigningKey configured : jwtProperties.getKeys()) {
+                publicKeys.put(configured.getKid(), readPublicKey(configured.getPublicKey()));
+                if (configured.getKid().equals(activeKid)) {
+                    activeSigningKey = readPrivateKey(configured.getPrivateKey());
+                }
+            }
+
+            if (activeSigningKey == null) {
+                if (!jwtProperties.getKeys().isEmpty()) {
+                    throw new IllegalStateException("jwt.active-key-id에 해당하는 서명 키가 없습니다: " + activeKid);
+                }
+                if (!jwtProperties.isAllowEphemeralKeys()) {
+                    throw new IllegalStateException(
+                            algorithm + " 서명 키가 설정되지 않았습니다. jwt.keys를 설정하거나 개발 환경에서만 "
+                                    + "jwt.allow-ephemeral-keys=true를 사용하세요.");
+                }
+                KeyPair generated = Keys.keyPairFor(algorithm);
+                activeKid = "ephemeral-" + UUID.randomUUID();
+                publicKeys.put(activeKid, generated.getPublic());
+                activeSigningKey = generated.getPrivate();
+                log.warn("[JwtKeyRing] no {} keys configured, generated ephemeral key kid={}", algorithm, activeKid);
+            }
+
+            this.activeKeyId = activeKid;
+            this.signingKey = activeSigningKey;
+            this.verificationKeys = Map.copyOf(publicKeys);
+        }
+
+        this.jwks = writeJwks(objectMapper);
+        this.jwksEtag = "\"" + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Arrays.copyOf(TokenDigest.sha256(jwks), 16)) + "\"";
+    }
+
+    public SignatureAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public String getActiveKeyId() {
+        return activeKeyId;
+    }
+
+    public Key getSigningKey() {
+        return signingKey;
+    }
+
+    public byte[] getJwks() {
+        return jwks;
+    }
+
+    public String getJwksEtag() {
+        return jwksEtag;
+    }
+
+    Key resolveVerificationKey(JwsHeader<?> header) {
+        if (!algorithm.getValue().equals(header.getAlgorithm())) {
+            throw new UnsupportedJwtException("허용되지 않은 서명 알고리즘입니다: " + header.getAlgorithm());
+        }
+        if (hmacKey != null) {
+            return hmacKey;
+        }
+        Key key = header.getKeyId() != null ? verificationKeys.get(header.getKeyId()) : null;
+        if (key == null) {
+            throw new UnsupportedJwtException("알 수 없는 서명 키입니다: " + header.getKeyId());
+        }
+        return key;
+    }
+
+    private byte[] writeJwks(ObjectMapper objectMapper) {
+        List<Map<String, Object>> keys = new ArrayList<>();
+        verificationKeys.forEach((kid, key) -> keys.add(toJwk(kid, key)));
+        try {
+            return objectMapper.writeValueAsBytes(Map.of("keys", keys));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("JWKS 문서를 생성할 수 없습니다.", ex);
+        }
+    }
+
+    private Map<String, Object> toJwk(String kid, Key key) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        if (key instanceof RSAPublicKey rsa) {
+            jwk.put("kty", "RSA");
+            jwk.put("n", base64Url(rsa.getModulus(), 0));
+            jwk.put("e", base64Url(rsa.getPublicExponent(), 0));
+        } else if (key instanceof ECPublicKey ec) {
+            int fieldSize = (ec.getParams().getCurve().getField().getFieldSize() + 7) / 8;
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-" + ec.getParams().getCurve().getField().getFieldSize());
+            jwk.put("x", base64Url(ec.getW().getAffineX(), fieldSize));
+            jwk.put("y", base64Url(ec.getW().getAffineY(), fieldSize));
+        } else {
+            throw new IllegalStateException("JWKS로 게시할 수 없는 키 형식입니다: " + key.getAlgorithm());
+        }
+        jwk.put("kid", kid);
+        jwk.put("use", "sig");
+        jwk.put("alg", algorithm.getValue());
+        return jwk;
+    }
+
+    private static String base64Url(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        if (bytes.length < length) {
+            byte[] padded = new byte[length];
+            System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+            bytes = padded;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private PublicKey readPublicKey(String encoded) {
+        try {
+            return keyFactory().generatePublic(new X509EncodedKeySpec(decodePem(encoded)));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("JWT 공개 키를 읽을 수 없습니다.", ex);
+        }
+    }
+
+    private PrivateKey readPrivateKey(String encoded) {
+        try {
+            return keyFactory().generatePrivate(new PKCS8EncodedKeySpec(decodePem(encoded)));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("JWT 개인 키를 읽을 수 없습니다.", ex);
+        }
+    }
+
+    private KeyFactory keyFactory() throws GeneralSecurityException {
+        return KeyFactory.getInstance(algorithm.getFamilyName().equals("ECDSA") ? "EC" : "RSA");
+    }
+
+    private static byte[] decodePem(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            throw new IllegalStateException("JWT 서명 키 값이 비어 있습니다.");
+        }
+        String body = encoded.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(body);
+    }
+}
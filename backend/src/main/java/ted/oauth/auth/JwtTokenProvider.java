@@ -1,57 +1,101 @@
 package ted.oauth.auth;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import java.security.Key;
 import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 import org.springframework.stereotype.Component;
 import ted.oauth.config.JwtProperties;
-import ted.oauth.user.User;
+import ted.oauth.config.PrincipalSource;
+import ted.oauth.user.UserSnapshot;
 
 @Component
 public class JwtTokenProvider {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String EMAIL_CLAIM = "email";
+    private static final String ROLE_CLAIM = "role";
+    private static final String PROFILE_COMPLETED_CLAIM = "profileCompleted";
+
     private final JwtProperties jwtProperties;
-    private final Key signingKey;
+    private final JwtKeyRing keyRing;
+    private final JwtParser jwtParser;
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    public JwtTokenProvider(JwtProperties jwtProperties) {
+    public JwtTokenProvider(JwtProperties jwtProperties, JwtKeyRing keyRing, VerifiedTokenCache verifiedTokenCache) {
         this.jwtProperties = jwtProperties;
-        this.signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes());
+        this.keyRing = keyRing;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    @SuppressWarnings("rawtypes")
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return keyRing.resolveVerificationKey(header);
+                    }
+                })
+                .build();
     }
 
-    public String generateAccessToken(User user) {
+    public String generateAccessToken(UserSnapshot user) {
         Instant now = Instant.now();
         Instant expiry = now.plusSeconds(jwtProperties.getAccessTokenValiditySeconds());
 
-        return Jwts.builder()
-                .setSubject(String.valueOf(user.getId()))
-                .claim("role", user.getRole())
+        JwtBuilder builder = Jwts.builder();
+        if (keyRing.getActiveKeyId() != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, keyRing.getActiveKeyId());
+        }
+        return builder
+                .setId(UUID.randomUUID().toString())
+                .setSubject(String.valueOf(user.id()))
+                .claim(EMAIL_CLAIM, user.email())
+                .claim(ROLE_CLAIM, user.role())
+                .claim(PROFILE_COMPLETED_CLAIM, user.profileCompleted())
                 .setIssuedAt(Date.from(now))
                 .setExpiration(Date.from(expiry))
-                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .signWith(keyRing.getSigningKey(), keyRing.getAlgorithm())
                 .compact();
     }
 
-    public boolean validateAccessToken(String token) {
+    public Optional<AccessTokenClaims> verifyAccessToken(String token) {
+        AccessTokenClaims cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
         try {
-            Jwts.parserBuilder().setSigningKey(signingKey).build().parseClaimsJws(token);
-            return true;
-        } catch (Exception ex) {
-            return false;
+            AccessTokenClaims claims = parseAccessToken(token);
+            verifiedTokenCache.put(token, claims);
+            return Optional.of(claims);
+        } catch (JwtException | IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    public String resolveBearerToken(String authorizationHeader) {
+        if (authorizationHeader != null && authorizationHeader.startsWith(BEARER_PREFIX)) {
+            return authorizationHeader.substring(BEARER_PREFIX.length());
         }
+        return null;
+    }
+
+    public boolean isPrincipalFromClaims() {
+        return jwtProperties.getPrincipalSource() == PrincipalSource.CLAIMS;
     }
 
-    public Long extractUserId(String token) {
-        Claims claims = Jwts.parserBuilder().setSigningKey(signingKey).build().parseClaimsJws(token).getBody();
-        return Long.parseLong(claims.getSubject());
+    public int getMaxSessionsPerUser() {
+        return jwtProperties.getMaxSessionsPerUser();
     }
 
-    public Instant extractExpiry(String token) {
-        Claims claims = Jwts.parserBuilder().setSigningKey(signingKey).build().parseClaimsJws(token).getBody();
-        return claims.getExpiration().toInstant();
+    public long getRefreshTokenReuseGraceSeconds() {
+        return jwtProperties.getRefreshTokenReuseGraceSeconds();
     }
 
     public long getAccessTokenValiditySeconds() {
@@ -61,4 +105,17 @@ public class JwtTokenProvider {
     public long getRefreshTokenValiditySeconds() {
         return jwtProperties.getRefreshTokenValiditySeconds();
     }
+
+    private AccessTokenClaims parseAccessToken(String token) {
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        return new AccessTokenClaims(
+                claims.getId(),
+                Long.parseLong(claims.getSubject()),
+                claims.get(EMAIL_CLAIM, String.class),
+                claims.get(ROLE_CLAIM, String.class),
+                Boolean.TRUE.equals(claims.get(PROFILE_COMPLETED_CLAIM, Boolean.class)),
+                claims.getIssuedAt().toInstant(),
+                claims.getExpiration().toInstant()
+        );
+    }
 }
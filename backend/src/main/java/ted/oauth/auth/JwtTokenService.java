@@ -8,6 +8,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ted.oauth.auth.dto.TokenResponse;
 import ted.oauth.user.User;
+import ted.oauth.user.UserCache;
+import ted.oauth.user.UserRepository;
+import ted.oauth.user.UserSnapshot;
 
 @Slf4j
 @Service
@@ -17,34 +20,99 @@ public class JwtTokenService {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final AccessTokenRevocationStore revocationStore;
+    private final AuthMetrics authMetrics;
 
     public TokenResponse issueTokens(User user) {
-        String accessToken = jwtTokenProvider.generateAccessToken(user);
-        String refreshToken = UUID.randomUUID().toString();
-        Instant expiresAt = Instant.now().plusSeconds(jwtTokenProvider.getRefreshTokenValiditySeconds());
+        return issueTokens(UserSnapshot.from(user));
+    }
 
-        refreshTokenRepository.deleteAllByUser(user);
-        refreshTokenRepository.saveAndFlush(RefreshToken.create(user, refreshToken, expiresAt));
+    public TokenResponse issueTokens(UserSnapshot user) {
+        RefreshTokenValue refreshToken = RefreshTokenValue.issue(UUID.randomUUID(), 0);
 
-        return new TokenResponse(accessToken, refreshToken, "Bearer", jwtTokenProvider.getAccessTokenValiditySeconds());
+        refreshTokenRepository.save(RefreshToken.create(
+                userRepository.getReferenceById(user.id()), refreshToken.familyId(),
+                TokenDigest.sha256(refreshToken.token()), nextRefreshTokenExpiry()));
+        refreshTokenRepository.deleteOldestSessions(user.id(), jwtTokenProvider.getMaxSessionsPerUser());
+
+        return toResponse(user, refreshToken.token());
     }
 
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
     public TokenResponse refreshTokens(String refreshToken) {
-        RefreshToken stored = refreshTokenRepository.findByToken(refreshToken)
-                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다."));
+        long startedAt = authMetrics.start();
+        boolean rotated = false;
+        try {
+            TokenResponse response = rotateRefreshToken(refreshToken);
+            rotated = true;
+            return response;
+        } finally {
+            authMetrics.recordRefreshRotation(startedAt, rotated);
+        }
+    }
+
+    private TokenResponse rotateRefreshToken(String refreshToken) {
+        byte[] presentedHash = TokenDigest.sha256(refreshToken);
+        RefreshToken stored = refreshTokenRepository.findByTokenHash(presentedHash)
+                .orElseThrow(() -> rejectUnknownToken(refreshToken));
 
         if (stored.isExpired()) {
             refreshTokenRepository.delete(stored);
             throw new IllegalArgumentException("리프레시 토큰이 만료되었습니다.");
         }
 
-        User user = stored.getUser();
-        refreshTokenRepository.delete(stored);
+        UserSnapshot user = userCache.findById(stored.getUser().getId())
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다."));
+
+        RefreshTokenValue rotatedToken = RefreshTokenValue.issue(stored.getFamilyId(), stored.getGeneration() + 1);
+        int rotated = refreshTokenRepository.rotate(
+                stored.getId(), presentedHash, TokenDigest.sha256(rotatedToken.token()), nextRefreshTokenExpiry(),
+                Instant.now());
+        if (rotated == 0) {
+            throw new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다.");
+        }
 
-        return issueTokens(user);
+        return toResponse(user, rotatedToken.token());
     }
 
     public void revokeRefreshToken(String refreshToken) {
-        refreshTokenRepository.deleteByToken(refreshToken);
+        refreshTokenRepository.deleteByTokenHash(TokenDigest.sha256(refreshToken));
+    }
+
+    public void revokeAccessToken(String authorizationHeader) {
+        String accessToken = jwtTokenProvider.resolveBearerToken(authorizationHeader);
+        if (accessToken == null) {
+            return;
+        }
+        jwtTokenProvider.verifyAccessToken(accessToken)
+                .ifPresent(claims -> revocationStore.revoke(claims.tokenId(), claims.expiresAt()));
+    }
+
+    public void revokeAllSessions(Long userId) {
+        refreshTokenRepository.deleteAllByUserId(userId);
+    }
+
+    private IllegalArgumentException rejectUnknownToken(String refreshToken) {
+        Instant graceCutoff = Instant.now().minusSeconds(jwtTokenProvider.getRefreshTokenReuseGraceSeconds());
+        boolean reused = RefreshTokenValue.parse(refreshToken)
+                .map(presented -> refreshTokenRepository.deleteReusedFamily(
+                        presented.familyId(), presented.generation(), graceCutoff) > 0)
+                .orElse(false);
+        if (reused) {
+            log.warn("[JwtTokenService] refresh token reuse detected, session family revoked");
+            return new IllegalArgumentException("이미 사용된 리프레시 토큰입니다. 다시 로그인해 주세요.");
+        }
+        return new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다.");
+    }
+
+    private Instant nextRefreshTokenExpiry() {
+        return Instant.now().plusSeconds(jwtTokenProvider.getRefreshTokenValiditySeconds());
+    }
+
+    private TokenResponse toResponse(UserSnapshot user, String refreshToken) {
+        String accessToken = jwtTokenProvider.generateAccessToken(user);
+        return new TokenResponse(accessToken, refreshToken, "Bearer", jwtTokenProvider.getAccessTokenValiditySeconds());
     }
 }
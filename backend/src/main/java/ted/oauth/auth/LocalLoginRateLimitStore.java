@@ -0,0 +1,85 @@
+package ted.oauth.auth;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+public class LocalLoginRateLimitStore implements LoginRateLimitStore {
+
+    private static final long EPOCH_MASK = 0xFFFF_FFFFL;
+    private static final int MAX_COUNT = 0xFFFF;
+
+    private final Map<LoginRateLimitScope, Sketch> sketches = new EnumMap<>(LoginRateLimitScope.class);
+    private final int slots;
+    private final LongSupplier clock;
+
+    public LocalLoginRateLimitStore(int slots) {
+        this(slots, System::currentTimeMillis);
+    }
+
+    public LocalLoginRateLimitStore(int slots, LongSupplier clock) {
+        this.slots = Integer.highestOneBit(Math.max(slots, 2) - 1) << 1;
+        this.clock = clock;
+        for (LoginRateLimitScope scope : LoginRateLimitScope.values()) {
+            sketches.put(scope, new Sketch());
+        }
+    }
+
+    @Override
+    public double recordAttempt(LoginRateLimitScope scope, String key, Duration window) {
+        long now = clock.getAsLong();
+        long windowMillis = window.toMillis();
+        long epoch = now / windowMillis;
+        double previousWeight = 1.0 - (double) (now % windowMillis) / windowMillis;
+        return sketches.get(scope).recordAttempt(key, epoch, previousWeight);
+    }
+
+    private final class Sketch {
+
+        private final AtomicLongArray cells = new AtomicLongArray(slots * 2);
+        private final long seed = ThreadLocalRandom.current().nextLong();
+
+        private double recordAttempt(String key, long epoch, double previousWeight) {
+            long hash = hash(key);
+            double first = increment((int) hash & (slots - 1), epoch, previousWeight);
+            double second = increment(slots + ((int) (hash >>> 32) & (slots - 1)), epoch, previousWeight);
+            return Math.min(first, second);
+        }
+
+        private double increment(int index, long epoch, double previousWeight) {
+            long windowTag = epoch & EPOCH_MASK;
+            while (true) {
+                long cell = cells.get(index);
+                long cellTag = cell >>> 32;
+                int current = (int) ((cell >>> 16) & MAX_COUNT);
+                int previous = (int) (cell & MAX_COUNT);
+
+                if (cellTag != windowTag) {
+                    previous = cellTag == ((epoch - 1) & EPOCH_MASK) ? current : 0;
+                    current = 0;
+                }
+                current = Math.min(current + 1, MAX_COUNT);
+
+                long next = (windowTag << 32) | ((long) current << 16) | previous;
+                if (cells.compareAndSet(index, cell, next)) {
+                    return previous * previousWeight + current;
+                }
+            }
+        }
+
+        private long hash(String key) {
+            long hash = seed ^ 0xcbf29ce484222325L;
+            for (int i = 0; i < key.length(); i++) {
+                hash ^= key.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package ted.oauth.auth;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Table(name = "login_attempt_windows", indexes = {
+        @Index(name = "idx_login_attempt_windows_window_index", columnList = "window_index")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LoginAttemptWindow {
+
+    @Id
+    @Column(length = 96)
+    private String bucket;
+
+    @Column(name = "window_index", nullable = false)
+    private long windowIndex;
+
+    @Column(nullable = false)
+    private int attempts;
+}
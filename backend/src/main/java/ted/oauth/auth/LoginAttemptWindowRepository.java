@@ -0,0 +1,27 @@
+package ted.oauth.auth;
+
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface LoginAttemptWindowRepository extends JpaRepository<LoginAttemptWindow, String> {
+
+    @Transactional
+    @Query(value = "INSERT INTO login_attempt_windows (bucket, window_index, attempts) "
+            + "VALUES (:bucket, :windowIndex, 1) "
+            + "ON CONFLICT (bucket) DO UPDATE SET attempts = login_attempt_windows.attempts + 1 "
+            + "RETURNING attempts",
+            nativeQuery = true)
+    int incrementAttempts(@Param("bucket") String bucket, @Param("windowIndex") long windowIndex);
+
+    @Query("select w.attempts from LoginAttemptWindow w where w.bucket = :bucket")
+    Optional<Integer> findAttempts(@Param("bucket") String bucket);
+
+    @Modifying
+    @Transactional
+    @Query("delete from LoginAttemptWindow w where w.windowIndex < :windowIndex")
+    int deleteOlderThan(@Param("windowIndex") long windowIndex);
+}
@@ -0,0 +1,174 @@
+package ted.oauth.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import ted.oauth.auth.dto.ApiResponse;
+import ted.oauth.config.LoginRateLimitProperties;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String LOGIN_PATH = "/api/auth/login";
+    private static final int MAX_BODY_BYTES = 16 * 1024;
+
+    private final LoginRateLimitStore loginRateLimitStore;
+    private final LoginRateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final AuthMetrics authMetrics;
+    private final ClientIpResolver clientIpResolver;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || !"POST".equals(request.getMethod())
+                || !LOGIN_PATH.equals(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String clientIp = clientIpResolver.resolve(request);
+        if (exceeded(LoginRateLimitScope.IP, clientIp, properties.getMaxAttemptsPerIp())) {
+            reject(response, LoginRateLimitScope.IP);
+            return;
+        }
+
+        byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        if (body.length > MAX_BODY_BYTES) {
+            write(response, HttpStatus.PAYLOAD_TOO_LARGE, "요청 본문이 너무 큽니다.");
+            return;
+        }
+
+        String identifier = identifier(body);
+        if (identifier != null) {
+            if (exceeded(LoginRateLimitScope.IDENTIFIER_IP, identifier + "|" + clientIp,
+                    properties.getMaxAttemptsPerIdentifierAndIp())) {
+                reject(response, LoginRateLimitScope.IDENTIFIER_IP);
+                return;
+            }
+            if (exceeded(LoginRateLimitScope.IDENTIFIER, identifier, properties.getMaxAttemptsPerIdentifier())) {
+                reject(response, LoginRateLimitScope.IDENTIFIER);
+                return;
+            }
+        }
+
+        filterChain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+
+    private boolean exceeded(LoginRateLimitScope scope, String key, int limit) {
+        return loginRateLimitStore.recordAttempt(scope, key, properties.getWindow()) > limit;
+    }
+
+    private String identifier(byte[] body) {
+        try {
+            JsonNode identifier = objectMapper.readTree(body).path("identifier");
+            return identifier.isTextual() && !identifier.asText().isBlank()
+                    ? identifier.asText().trim().toLowerCase(Locale.ROOT)
+                    : null;
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, LoginRateLimitScope scope) throws IOException {
+        authMetrics.recordLoginRateLimited(scope.tag());
+        log.debug("[LoginRateLimit] rejected login attempt by {}", scope.tag());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(properties.getWindow().toSeconds(), 1)));
+        write(response, HttpStatus.TOO_MANY_REQUESTS, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    private void write(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(objectMapper.writeValueAsString(ApiResponse.fail(message)));
+    }
+
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException ex) {
+                        readListener.onError(ex);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
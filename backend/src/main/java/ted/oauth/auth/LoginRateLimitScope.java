@@ -0,0 +1,13 @@
+package ted.oauth.auth;
+
+import java.util.Locale;
+
+public enum LoginRateLimitScope {
+    IP,
+    IDENTIFIER,
+    IDENTIFIER_IP;
+
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
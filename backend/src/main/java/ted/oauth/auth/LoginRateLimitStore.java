@@ -0,0 +1,8 @@
+package ted.oauth.auth;
+
+import java.time.Duration;
+
+public interface LoginRateLimitStore {
+
+    double recordAttempt(LoginRateLimitScope scope, String key, Duration window);
+}
@@ -0,0 +1,49 @@
+package ted.oauth.auth;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class OAuth2LoginFailureHandler extends SimpleUrlAuthenticationFailureHandler {
+
+  @Value("${FRONTEND_BASE_URL:http://localhost:3000}")
+  private String frontendBaseUrl;
+
+  @Override
+  public void onAuthenticationFailure(HttpServletRequest request,
+      HttpServletResponse response,
+      AuthenticationException exception) throws IOException {
+    String unavailableProvider = unavailableProvider(exception);
+    String fragment;
+    if (unavailableProvider != null) {
+      log.debug("[OAuth2FailureHandler] Provider {} unavailable: {}", unavailableProvider, exception.getMessage());
+      fragment = "#error=provider_unavailable&provider="
+          + URLEncoder.encode(unavailableProvider, StandardCharsets.UTF_8);
+    } else {
+      log.debug("[OAuth2FailureHandler] Social login failed: {}", exception.getMessage());
+      fragment = "#error=login_failed";
+    }
+    response.sendRedirect(frontendBaseUrl + "/oauth/callback" + fragment);
+  }
+
+  private static String unavailableProvider(Throwable exception) {
+    for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+      if (cause instanceof OAuthProviderUnavailableException unavailable) {
+        return unavailable.getRegistrationId();
+      }
+      if (cause instanceof OAuthProviderBusyException busy) {
+        return busy.getRegistrationId();
+      }
+    }
+    return null;
+  }
+}
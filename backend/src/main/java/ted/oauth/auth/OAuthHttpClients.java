@@ -0,0 +1,157 @@
+package ted.oauth.auth;
+
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.security.oauth2.client.OAuth2ClientProperties;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.converter.FormHttpMessageConverter;
+import org.springframework.security.oauth2.client.endpoint.DefaultAuthorizationCodeTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
+import org.springframework.security.oauth2.client.oidc.userinfo.OidcUserService;
+import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
+import org.springframework.security.oauth2.core.http.converter.OAuth2AccessTokenResponseHttpMessageConverter;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestOperations;
+import org.springframework.web.client.RestTemplate;
+import ted.oauth.config.OAuthCircuitBreakerProperties;
+import ted.oauth.config.OAuthHttpClientProperties;
+
+@Slf4j
+@Component
+public class OAuthHttpClients implements AutoCloseable {
+
+    private static final String KEEP_ALIVE_TIMEOUT_PROPERTY = "jdk.httpclient.keepalive.timeout";
+
+    private final Map<String, DefaultAuthorizationCodeTokenResponseClient> tokenClients = new HashMap<>();
+    private final Map<String, DefaultOAuth2UserService> userInfoServices = new HashMap<>();
+    private final Map<String, RestOperations> jwksClients = new HashMap<>();
+    private final List<HttpClient> httpClients = new ArrayList<>();
+    private final List<ExecutorService> executors = new ArrayList<>();
+    private final OidcUserService oidcUserService = new OidcUserService();
+
+    public OAuthHttpClients(OAuthHttpClientProperties properties,
+                            OAuth2ClientProperties clientProperties,
+                            OAuthCircuitBreakerProperties circuitBreakerProperties,
+                            AuthMetrics authMetrics,
+                            Environment environment) {
+        boolean virtualThreads = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        if (System.getProperty(KEEP_ALIVE_TIMEOUT_PROPERTY) == null) {
+            log.warn("[OAuthHttpClients] -D{} is not set; idle provider connections stay pooled for the JDK default of 1200s",
+                    KEEP_ALIVE_TIMEOUT_PROPERTY);
+        }
+
+        for (String registrationId : clientProperties.getRegistration().keySet()) {
+            OAuthHttpClientProperties.Client client = properties.getProviders()
+                    .getOrDefault(registrationId, new OAuthHttpClientProperties.Client());
+
+            HttpClient.Builder builder = HttpClient.newBuilder()
+                    .version(client.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(client.getConnectTimeout())
+                    .followRedirects(HttpClient.Redirect.NEVER);
+            if (virtualThreads) {
+                ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+                executors.add(executor);
+                builder.executor(executor);
+            }
+            HttpClient httpClient = builder.build();
+            httpClients.add(httpClient);
+
+            JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+            requestFactory.setReadTimeout(client.getReadTimeout());
+
+            ProviderCircuitBreaker circuitBreaker = circuitBreakerProperties.isEnabled()
+                    ? new ProviderCircuitBreaker(circuitBreakerProperties)
+                    : null;
+            if (circuitBreaker != null) {
+                authMetrics.monitorProviderCircuit(registrationId, () -> circuitBreaker.state().ordinal());
+            }
+
+            RestTemplate tokenRestTemplate = new RestTemplate(List.of(
+                    new FormHttpMessageConverter(), new OAuth2AccessTokenResponseHttpMessageConverter()));
+            tokenRestTemplate.setRequestFactory(requestFactory);
+            tokenRestTemplate.setErrorHandler(new OAuth2ErrorResponseErrorHandler());
+            tokenRestTemplate.setInterceptors(interceptors(
+                    registrationId, "token", circuitBreaker, client, authMetrics));
+            DefaultAuthorizationCodeTokenResponseClient tokenClient = new DefaultAuthorizationCodeTokenResponseClient();
+            tokenClient.setRestOperations(tokenRestTemplate);
+            tokenClients.put(registrationId, tokenClient);
+
+            RestTemplate userInfoRestTemplate = new RestTemplate(requestFactory);
+            userInfoRestTemplate.setErrorHandler(new OAuth2ErrorResponseErrorHandler());
+            userInfoRestTemplate.setInterceptors(interceptors(
+                    registrationId, "userinfo", circuitBreaker, client, authMetrics));
+            DefaultOAuth2UserService userInfoService = new DefaultOAuth2UserService();
+            userInfoService.setRestOperations(userInfoRestTemplate);
+            userInfoServices.put(registrationId, userInfoService);
+
+            RestTemplate jwksRestTemplate = new RestTemplate(requestFactory);
+            jwksRestTemplate.setInterceptors(interceptors(
+                    registrationId, "jwks", circuitBreaker, client, authMetrics));
+            jwksClients.put(registrationId, jwksRestTemplate);
+        }
+
+        oidcUserService.setOauth2UserService(userInfoService());
+    }
+
+    public OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> tokenResponseClient() {
+        return request -> clientFor(tokenClients, request.getClientRegistration().getRegistrationId())
+                .getTokenResponse(request);
+    }
+
+    public OAuth2UserService<OAuth2UserRequest, OAuth2User> userInfoService() {
+        return request -> clientFor(userInfoServices, request.getClientRegistration().getRegistrationId())
+                .loadUser(request);
+    }
+
+    public RestOperations jwksClient(String registrationId) {
+        return clientFor(jwksClients, registrationId);
+    }
+
+    public OidcUserService oidcUserService() {
+        return oidcUserService;
+    }
+
+    @Override
+    public void close() {
+        httpClients.forEach(HttpClient::shutdownNow);
+        executors.forEach(ExecutorService::close);
+    }
+
+    static List<ClientHttpRequestInterceptor> interceptors(String registrationId,
+                                                           String endpoint,
+                                                           ProviderCircuitBreaker circuitBreaker,
+                                                           OAuthHttpClientProperties.Client client,
+                                                           AuthMetrics authMetrics) {
+        Semaphore permits = new Semaphore(client.getMaxConcurrentRequests());
+        authMetrics.monitorProviderBulkhead(registrationId, endpoint, permits, client.getMaxConcurrentRequests());
+
+        List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>();
+        interceptors.add(new ProviderBulkheadInterceptor(registrationId, endpoint, permits, client.getBulkheadWait(), authMetrics));
+        if (circuitBreaker != null) {
+            interceptors.add(new ProviderCircuitBreakerInterceptor(registrationId, endpoint, circuitBreaker, authMetrics));
+        }
+        return interceptors;
+    }
+
+    private static <T> T clientFor(Map<String, T> clients, String registrationId) {
+        T client = clients.get(registrationId);
+        if (client == null) {
+            throw new IllegalArgumentException("HTTP 클라이언트가 구성되지 않은 제공자입니다: " + registrationId);
+        }
+        return client;
+    }
+}
@@ -0,0 +1,17 @@
+package ted.oauth.auth;
+
+import org.springframework.web.client.RestClientException;
+
+public class OAuthProviderBusyException extends RestClientException {
+
+    private final String registrationId;
+
+    public OAuthProviderBusyException(String registrationId) {
+        super("소셜 로그인 제공자 요청이 많아 잠시 후 다시 시도해 주세요: " + registrationId);
+        this.registrationId = registrationId;
+    }
+
+    public String getRegistrationId() {
+        return registrationId;
+    }
+}
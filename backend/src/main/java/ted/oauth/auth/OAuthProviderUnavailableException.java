@@ -0,0 +1,17 @@
+package ted.oauth.auth;
+
+import org.springframework.web.client.RestClientException;
+
+public class OAuthProviderUnavailableException extends RestClientException {
+
+    private final String registrationId;
+
+    public OAuthProviderUnavailableException(String registrationId) {
+        super("소셜 로그인 제공자가 일시적으로 응답하지 않습니다: " + registrationId);
+        this.registrationId = registrationId;
+    }
+
+    public String getRegistrationId() {
+        return registrationId;
+    }
+}
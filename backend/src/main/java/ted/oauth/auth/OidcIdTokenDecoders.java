@@ -0,0 +1,118 @@
+package ted.oauth.auth;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.client.oidc.authentication.OidcIdTokenDecoderFactory;
+import org.springframework.security.oauth2.client.oidc.authentication.OidcIdTokenValidator;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.converter.ClaimTypeConverter;
+import org.springframework.security.oauth2.core.oidc.IdTokenClaimNames;
+import org.springframework.security.oauth2.core.oidc.OidcScopes;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtDecoderFactory;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import ted.oauth.config.OidcIdTokenProperties;
+
+@Component
+public class OidcIdTokenDecoders implements JwtDecoderFactory<ClientRegistration> {
+
+    private static final Set<JWSAlgorithm> ALGORITHMS = Set.of(JWSAlgorithm.RS256, JWSAlgorithm.ES256);
+
+    private final OidcIdTokenProperties properties;
+    private final OAuthHttpClients oAuthHttpClients;
+    private final ClientRegistrationRepository clientRegistrationRepository;
+    private final Map<String, JwtDecoder> decoders = new ConcurrentHashMap<>();
+    private final Map<String, CachedJwkSource> jwkSources = new ConcurrentHashMap<>();
+
+    public OidcIdTokenDecoders(OidcIdTokenProperties properties,
+                               OAuthHttpClients oAuthHttpClients,
+                               ClientRegistrationRepository clientRegistrationRepository) {
+        this.properties = properties;
+        this.oAuthHttpClients = oAuthHttpClients;
+        this.clientRegistrationRepository = clientRegistrationRepository;
+    }
+
+    @Override
+    public JwtDecoder createDecoder(ClientRegistration registration) {
+        return decoders.computeIfAbsent(registration.getRegistrationId(), id -> buildDecoder(registration));
+    }
+
+    @Scheduled(fixedDelayString = "${oidc-id-token.jwks-refresh-interval:PT1H}")
+    public void refreshJwks() {
+        if (clientRegistrationRepository instanceof Iterable<?> registrations) {
+            for (Object registration : registrations) {
+                if (registration instanceof ClientRegistration client && isOidc(client)) {
+                    createDecoder(client);
+                }
+            }
+        }
+        jwkSources.values().forEach(CachedJwkSource::refresh);
+    }
+
+    private JwtDecoder buildDecoder(ClientRegistration registration) {
+        String jwkSetUri = registration.getProviderDetails().getJwkSetUri();
+        if (!StringUtils.hasText(jwkSetUri)) {
+            throw new OAuth2AuthenticationException(new OAuth2Error("missing_signature_verifier"),
+                    "ID 토큰 서명을 검증할 jwk-set-uri가 없습니다: " + registration.getRegistrationId());
+        }
+        CachedJwkSource jwkSource = jwkSources.computeIfAbsent(jwkSetUri, uri ->
+                new CachedJwkSource(uri, oAuthHttpClients.jwksClient(registration.getRegistrationId()), properties.getJwksMinRefreshGap()));
+
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(ALGORITHMS, jwkSource));
+        // Intentionally empty: exp, iat, iss and aud are checked by the Spring validators below with the configured clock skew.
+        processor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+
+        String issuer = expectedIssuer(registration);
+        ClaimTypeConverter claimTypeConverter =
+                new ClaimTypeConverter(OidcIdTokenDecoderFactory.createDefaultClaimTypeConverters());
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
+        decoder.setClaimSetConverter(claims -> claimTypeConverter.convert(withIssuerScheme(claims, issuer)));
+        decoder.setJwtValidator(validator(registration, issuer));
+        return decoder;
+    }
+
+    private String expectedIssuer(ClientRegistration registration) {
+        String configured = properties.getIssuers().get(registration.getRegistrationId());
+        return StringUtils.hasText(configured) ? configured : registration.getProviderDetails().getIssuerUri();
+    }
+
+    private OAuth2TokenValidator<Jwt> validator(ClientRegistration registration, String issuer) {
+        OidcIdTokenValidator idTokenValidator = new OidcIdTokenValidator(
+                ClientRegistration.withClientRegistration(registration).issuerUri(issuer).build());
+        idTokenValidator.setClockSkew(properties.getClockSkew());
+        return new DelegatingOAuth2TokenValidator<>(new JwtTimestampValidator(properties.getClockSkew()), idTokenValidator);
+    }
+
+    private static Map<String, Object> withIssuerScheme(Map<String, Object> claims, String issuer) {
+        if (issuer == null || !(claims.get(IdTokenClaimNames.ISS) instanceof String iss)
+                || iss.contains("://") || !issuer.equals("https://" + iss)) {
+            return claims;
+        }
+        Map<String, Object> normalized = new HashMap<>(claims);
+        normalized.put(IdTokenClaimNames.ISS, issuer);
+        return normalized;
+    }
+
+    private static boolean isOidc(ClientRegistration registration) {
+        return registration.getScopes().contains(OidcScopes.OPENID)
+                && StringUtils.hasText(registration.getProviderDetails().getJwkSetUri());
+    }
+}
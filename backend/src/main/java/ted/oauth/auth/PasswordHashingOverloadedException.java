@@ -0,0 +1,8 @@
+package ted.oauth.auth;
+
+public class PasswordHashingOverloadedException extends RuntimeException {
+
+    public PasswordHashingOverloadedException() {
+        super("요청이 많아 잠시 후 다시 시도해 주세요.");
+    }
+}
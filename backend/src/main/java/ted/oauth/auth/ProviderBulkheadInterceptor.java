@@ -0,0 +1,113 @@
+package ted.oauth.auth;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+class ProviderBulkheadInterceptor implements ClientHttpRequestInterceptor {
+
+    private final String registrationId;
+    private final String endpoint;
+    private final Semaphore permits;
+    private final Duration bulkheadWait;
+    private final AuthMetrics authMetrics;
+
+    ProviderBulkheadInterceptor(String registrationId,
+                                String endpoint,
+                                Semaphore permits,
+                                Duration bulkheadWait,
+                                AuthMetrics authMetrics) {
+        this.registrationId = registrationId;
+        this.endpoint = endpoint;
+        this.permits = permits;
+        this.bulkheadWait = bulkheadWait;
+        this.authMetrics = authMetrics;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (!acquire()) {
+            authMetrics.recordProviderCallRejected(registrationId, endpoint, "bulkhead");
+            throw new OAuthProviderBusyException(registrationId);
+        }
+
+        long startedAt = authMetrics.start();
+        ClientHttpResponse response = null;
+        try {
+            response = execution.execute(request, body);
+            return new ReleasingResponse(response, startedAt, response.getStatusCode().value());
+        } catch (IOException | RuntimeException ex) {
+            if (response != null) {
+                response.close();
+            }
+            permits.release();
+            authMetrics.recordProviderCall(startedAt, registrationId, endpoint, "io_error");
+            throw ex;
+        }
+    }
+
+    private boolean acquire() {
+        try {
+            return permits.tryAcquire(bulkheadWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private final class ReleasingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final long startedAt;
+        private final int status;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private ReleasingResponse(ClientHttpResponse delegate, long startedAt, int status) {
+            this.delegate = delegate;
+            this.startedAt = startedAt;
+            this.status = status;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (closed.compareAndSet(false, true)) {
+                    permits.release();
+                    authMetrics.recordProviderCall(startedAt, registrationId, endpoint, (status / 100) + "xx");
+                }
+            }
+        }
+    }
+}
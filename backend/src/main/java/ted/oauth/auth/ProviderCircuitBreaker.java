@@ -0,0 +1,89 @@
+package ted.oauth.auth;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import ted.oauth.config.OAuthCircuitBreakerProperties;
+
+final class ProviderCircuitBreaker {
+
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final RollingOutcomeWindow window;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallNanos;
+    private final double slowCallRateThreshold;
+    private final long openNanos;
+    private final int halfOpenProbes;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicLong openedAt = new AtomicLong();
+    private final AtomicInteger probesIssued = new AtomicInteger();
+    private final AtomicInteger probesSucceeded = new AtomicInteger();
+
+    ProviderCircuitBreaker(OAuthCircuitBreakerProperties properties) {
+        this.window = new RollingOutcomeWindow(properties.getWindow(), properties.getWindowBuckets());
+        this.minimumCalls = properties.getMinimumCalls();
+        this.failureRateThreshold = properties.getFailureRateThreshold();
+        this.slowCallNanos = properties.getSlowCallThreshold().toNanos();
+        this.slowCallRateThreshold = properties.getSlowCallRateThreshold();
+        this.openNanos = properties.getOpenDuration().toNanos();
+        this.halfOpenProbes = properties.getHalfOpenProbes();
+    }
+
+    State state() {
+        return state.get();
+    }
+
+    boolean tryAcquire(long nowNanos) {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN) {
+            if (nowNanos - openedAt.get() < openNanos) {
+                return false;
+            }
+            if (state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+                probesIssued.set(0);
+                probesSucceeded.set(0);
+            }
+        }
+        return probesIssued.incrementAndGet() <= halfOpenProbes;
+    }
+
+    void onResult(long nowNanos, long elapsedNanos, boolean failure) {
+        boolean slow = elapsedNanos >= slowCallNanos;
+        State current = state.get();
+
+        if (current == State.HALF_OPEN) {
+            if (failure || slow) {
+                trip(State.HALF_OPEN, nowNanos);
+            } else if (probesSucceeded.incrementAndGet() >= halfOpenProbes
+                    && state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+                window.reset();
+            }
+            return;
+        }
+
+        window.record(nowNanos, failure, slow);
+        if (current == State.CLOSED) {
+            RollingOutcomeWindow.Snapshot snapshot = window.snapshot(nowNanos);
+            if (snapshot.calls() >= minimumCalls
+                    && (snapshot.failureRate() >= failureRateThreshold
+                    || snapshot.slowCallRate() >= slowCallRateThreshold)) {
+                trip(State.CLOSED, nowNanos);
+            }
+        }
+    }
+
+    private void trip(State from, long nowNanos) {
+        openedAt.set(nowNanos);
+        state.compareAndSet(from, State.OPEN);
+    }
+}
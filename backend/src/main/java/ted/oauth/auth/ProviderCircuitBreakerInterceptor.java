@@ -0,0 +1,52 @@
+package ted.oauth.auth;
+
+import java.io.IOException;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+class ProviderCircuitBreakerInterceptor implements ClientHttpRequestInterceptor {
+
+    private final String registrationId;
+    private final String endpoint;
+    private final ProviderCircuitBreaker circuitBreaker;
+    private final AuthMetrics authMetrics;
+
+    ProviderCircuitBreakerInterceptor(String registrationId,
+                                      String endpoint,
+                                      ProviderCircuitBreaker circuitBreaker,
+                                      AuthMetrics authMetrics) {
+        this.registrationId = registrationId;
+        this.endpoint = endpoint;
+        this.circuitBreaker = circuitBreaker;
+        this.authMetrics = authMetrics;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        long startedAt = System.nanoTime();
+        if (!circuitBreaker.tryAcquire(startedAt)) {
+            authMetrics.recordProviderCallRejected(registrationId, endpoint, "circuit_open");
+            throw new OAuthProviderUnavailableException(registrationId);
+        }
+
+        ClientHttpResponse response = null;
+        boolean failure = true;
+        try {
+            response = execution.execute(request, body);
+            int status = response.getStatusCode().value();
+            failure = status >= 500 || status == 429;
+            return response;
+        } catch (IOException | RuntimeException ex) {
+            if (response != null) {
+                response.close();
+            }
+            throw ex;
+        } finally {
+            long now = System.nanoTime();
+            circuitBreaker.onResult(now, now - startedAt, failure);
+        }
+    }
+}
@@ -6,10 +6,12 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import java.time.Instant;
+import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -18,7 +20,11 @@ import ted.oauth.user.User;
 
 @Getter
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_user_id", columnList = "user_id"),
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id", unique = true)
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RefreshToken extends BaseTimeEntity {
 
@@ -30,20 +36,30 @@ public class RefreshToken extends BaseTimeEntity {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @Column(nullable = false, unique = true, length = 256)
-    private String token;
+    @Column(name = "family_id", nullable = false, updatable = false)
+    private UUID familyId;
+
+    @Column(name = "token_hash", nullable = false, unique = true, length = 32)
+    private byte[] tokenHash;
+
+    @Column(nullable = false)
+    private int generation;
+
+    @Column(name = "rotated_at")
+    private Instant rotatedAt;
 
     @Column(name = "expires_at", nullable = false)
     private Instant expiresAt;
 
-    private RefreshToken(User user, String token, Instant expiresAt) {
+    private RefreshToken(User user, UUID familyId, byte[] tokenHash, Instant expiresAt) {
         this.user = user;
-        this.token = token;
+        this.familyId = familyId;
+        this.tokenHash = tokenHash;
         this.expiresAt = expiresAt;
     }
 
-    public static RefreshToken create(User user, String token, Instant expiresAt) {
-        return new RefreshToken(user, token, expiresAt);
+    public static RefreshToken create(User user, UUID familyId, byte[] tokenHash, Instant expiresAt) {
+        return new RefreshToken(user, familyId, tokenHash, expiresAt);
     }
 
     public boolean isExpired() {
@@ -0,0 +1,84 @@
+package ted.oauth.auth;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ted.oauth.config.RefreshTokenReaperProperties;
+
+@Slf4j
+@Component
+public class RefreshTokenReaper {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenReaperProperties properties;
+    private final Timer batchTimer;
+    private final Counter reclaimedCounter;
+    private final TaskScheduler taskScheduler;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public RefreshTokenReaper(RefreshTokenRepository refreshTokenRepository,
+                              RefreshTokenReaperProperties properties,
+                              MeterRegistry meterRegistry,
+                              TaskScheduler taskScheduler) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.properties = properties;
+        this.taskScheduler = taskScheduler;
+        this.batchTimer = Timer.builder("refresh_tokens.reaper.batch")
+                .description("Latency of one expired refresh token delete batch")
+                .register(meterRegistry);
+        this.reclaimedCounter = Counter.builder("refresh_tokens.reaper.reclaimed")
+                .description("Expired refresh token rows deleted by the reaper")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${refresh-token-reaper.interval:PT10M}",
+            initialDelayString = "${refresh-token-reaper.interval:PT10M}")
+    public void reapExpiredTokens() {
+        if (!properties.isEnabled() || !running.compareAndSet(false, true)) {
+            return;
+        }
+        reapBatch(new ReaperRun(Instant.now()));
+    }
+
+    private void reapBatch(ReaperRun run) {
+        boolean continued = false;
+        try {
+            int batchSize = properties.getBatchSize();
+            long startedAt = System.nanoTime();
+            int deleted = refreshTokenRepository.deleteExpiredBatch(run.cutoff, batchSize);
+            batchTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            reclaimedCounter.increment(deleted);
+            run.batches++;
+            run.reclaimed += deleted;
+
+            if (deleted == batchSize && run.batches < properties.getMaxBatchesPerRun()) {
+                taskScheduler.schedule(() -> reapBatch(run), Instant.now().plus(properties.getPauseBetweenBatches()));
+                continued = true;
+            } else if (run.reclaimed > 0) {
+                log.info("[RefreshTokenReaper] reclaimed={} batches={} cutoff={}", run.reclaimed, run.batches, run.cutoff);
+            }
+        } finally {
+            if (!continued) {
+                running.set(false);
+            }
+        }
+    }
+
+    private static final class ReaperRun {
+
+        private final Instant cutoff;
+        private long reclaimed;
+        private int batches;
+
+        private ReaperRun(Instant cutoff) {
+            this.cutoff = cutoff;
+        }
+    }
+}
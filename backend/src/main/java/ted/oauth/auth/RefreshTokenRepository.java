@@ -1,14 +1,54 @@
 package ted.oauth.auth;
 
+import java.time.Instant;
 import java.util.Optional;
+import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
-import ted.oauth.user.User;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findByToken(String token);
+    Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
 
-    void deleteByToken(String token);
+    @Modifying
+    @Query("update RefreshToken t set t.tokenHash = :rotatedHash, t.generation = t.generation + 1, "
+            + "t.expiresAt = :expiresAt, t.rotatedAt = :rotatedAt "
+            + "where t.id = :id and t.tokenHash = :currentHash")
+    int rotate(@Param("id") Long id,
+               @Param("currentHash") byte[] currentHash,
+               @Param("rotatedHash") byte[] rotatedHash,
+               @Param("expiresAt") Instant expiresAt,
+               @Param("rotatedAt") Instant rotatedAt);
 
-    void deleteAllByUser(User user);
+    @Modifying
+    @Query("delete from RefreshToken t where t.familyId = :familyId and (t.generation > :generation + 1 "
+            + "or (t.generation = :generation + 1 and t.rotatedAt < :graceCutoff))")
+    int deleteReusedFamily(@Param("familyId") UUID familyId,
+                           @Param("generation") int generation,
+                           @Param("graceCutoff") Instant graceCutoff);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") byte[] tokenHash);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM refresh_tokens WHERE user_id = :userId AND id NOT IN ("
+            + "SELECT id FROM refresh_tokens WHERE user_id = :userId ORDER BY COALESCE(rotated_at, created_at) DESC, id DESC LIMIT :keep)",
+            nativeQuery = true)
+    int deleteOldestSessions(@Param("userId") Long userId, @Param("keep") int keep);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM refresh_tokens WHERE id IN ("
+            + "SELECT id FROM refresh_tokens WHERE expires_at < :cutoff "
+            + "LIMIT :batchSize FOR UPDATE SKIP LOCKED)",
+            nativeQuery = true)
+    int deleteExpiredBatch(@Param("cutoff") Instant cutoff, @Param("batchSize") int batchSize);
 }
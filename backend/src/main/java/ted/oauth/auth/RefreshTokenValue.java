@@ -0,0 +1,24 @@
+package ted.oauth.auth;
+
+import java.util.Optional;
+import java.util.UUID;
+
+record RefreshTokenValue(UUID familyId, int generation, String token) {
+
+    static RefreshTokenValue issue(UUID familyId, int generation) {
+        return new RefreshTokenValue(familyId, generation,
+                familyId + "." + generation + "." + UUID.randomUUID());
+    }
+
+    static Optional<RefreshTokenValue> parse(String token) {
+        String[] parts = token.split("\\.", 3);
+        if (parts.length != 3) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new RefreshTokenValue(UUID.fromString(parts[0]), Integer.parseInt(parts[1]), token));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package ted.oauth.auth;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+final class RollingOutcomeWindow {
+
+    private static final int EPOCH = 0;
+    private static final int CALLS = 1;
+    private static final int FAILURES = 2;
+    private static final int SLOW_CALLS = 3;
+    private static final int STRIDE = 4;
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final AtomicLongArray buckets;
+    private final int bucketCount;
+    private final long bucketNanos;
+
+    RollingOutcomeWindow(Duration window, int bucketCount) {
+        this.bucketCount = bucketCount;
+        this.bucketNanos = Math.max(window.toNanos() / bucketCount, 1);
+        this.buckets = new AtomicLongArray(bucketCount * STRIDE);
+        reset();
+    }
+
+    void record(long nowNanos, boolean failure, boolean slow) {
+        long epoch = Math.floorDiv(nowNanos, bucketNanos);
+        int base = (int) Math.floorMod(epoch, (long) bucketCount) * STRIDE;
+
+        long current = buckets.get(base + EPOCH);
+        if (current != epoch && buckets.compareAndSet(base + EPOCH, current, epoch)) {
+            buckets.set(base + CALLS, 0);
+            buckets.set(base + FAILURES, 0);
+            buckets.set(base + SLOW_CALLS, 0);
+        }
+
+        buckets.incrementAndGet(base + CALLS);
+        if (failure) {
+            buckets.incrementAndGet(base + FAILURES);
+        }
+        if (slow) {
+            buckets.incrementAndGet(base + SLOW_CALLS);
+        }
+    }
+
+    Snapshot snapshot(long nowNanos) {
+        long oldestEpoch = Math.floorDiv(nowNanos, bucketNanos) - bucketCount + 1;
+        long calls = 0;
+        long failures = 0;
+        long slowCalls = 0;
+        for (int base = 0; base < buckets.length(); base += STRIDE) {
+            if (buckets.get(base + EPOCH) >= oldestEpoch) {
+                calls += buckets.get(base + CALLS);
+                failures += buckets.get(base + FAILURES);
+                slowCalls += buckets.get(base + SLOW_CALLS);
+            }
+        }
+        return new Snapshot(calls, failures, slowCalls);
+    }
+
+    void reset() {
+        for (int base = 0; base < buckets.length(); base += STRIDE) {
+            buckets.set(base + EPOCH, EMPTY);
+        }
+    }
+
+    record Snapshot(long calls, long failures, long slowCalls) {
+
+        double failureRate() {
+            return calls == 0 ? 0 : (double) failures / calls;
+        }
+
+        double slowCallRate() {
+            return calls == 0 ? 0 : (double) slowCalls / calls;
+        }
+    }
+}
@@ -2,12 +2,17 @@ package ted.oauth.auth;
 
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.HashSet;
 import java.util.Locale;
-import java.util.UUID;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import ted.oauth.config.NicknameStrategy;
+import ted.oauth.config.SocialProvisioningProperties;
 import ted.oauth.social.AuthProvider;
 import ted.oauth.social.SocialAccount;
 import ted.oauth.social.SocialAccountRepository;
@@ -21,64 +26,46 @@ import ted.oauth.user.UserRepository;
 @RequiredArgsConstructor
 public class SocialUserProvisioningService {
 
+    private static final int MAX_NICKNAME_BASE_LENGTH = 50;
+
     private final SocialAccountRepository socialAccountRepository;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final AuthMetrics authMetrics;
+    private final SocialProvisioningProperties properties;
 
     public User ensureUser(AuthProvider provider,
                            String providerUserId,
                            String emailFromProvider,
                            String nameFromProvider) {
-        log.info("[SocialProvisioning] ensureUser start provider={} providerUserId={} email={}", provider, providerUserId, emailFromProvider);
-        SocialAccount socialAccount = socialAccountRepository
-                .findByProviderAndProviderUserId(provider, providerUserId)
-                .map(existing -> {
-                    existing.updateProfile(emailFromProvider, nameFromProvider);
-                    log.info("[SocialProvisioning] existing social account found id={}", existing.getId());
-                    return existing;
-                })
-                .orElseGet(() -> {
-                    SocialAccount created = SocialAccount.create(provider, providerUserId, emailFromProvider, nameFromProvider);
-                    socialAccountRepository.saveAndFlush(created);
-                    log.info("[SocialProvisioning] new social account created id={}", created.getId());
-                    return created;
-                });
-
-        User linked = socialAccount.getUser();
-        if (linked != null) {
-            log.info("[SocialProvisioning] social account already linked userId={}", linked.getId());
-            socialAccountRepository.saveAndFlush(socialAccount);
-            return linked;
+        long startedAt = authMetrics.start();
+        log.debug("[SocialProvisioning] ensureUser start provider={} providerUserId={} email={}", provider, providerUserId, emailFromProvider);
+        SocialAccount existing = socialAccountRepository
+                .findWithUserByProviderAndProviderUserId(provider, providerUserId)
+                .orElse(null);
+        if (existing != null && existing.getUser() != null) {
+            boolean changed = existing.updateProfile(emailFromProvider, nameFromProvider);
+            log.debug("[SocialProvisioning] social account already linked userId={} profileChanged={}", existing.getUser().getId(), changed);
+            authMetrics.recordSocialProvisioning(startedAt, provider, "existing");
+            return existing.getUser();
         }
 
-        String email = deriveEmail(provider, providerUserId, socialAccount.getEmail());
-        User byEmail = userRepository.findByEmail(email).orElse(null);
-        if (byEmail != null) {
-            log.info("[SocialProvisioning] linking existing user by email userId={}", byEmail.getId());
-            socialAccount.associateUser(byEmail);
-            socialAccountRepository.saveAndFlush(socialAccount);
-            return byEmail;
+        if (existing == null) {
+            socialAccountRepository.insertIfAbsent(provider.name(), providerUserId, emailFromProvider, nameFromProvider);
+        }
+        Long linkedUserId = socialAccountRepository.lockLinkedUserId(provider.name(), providerUserId).orElse(null);
+        if (linkedUserId != null) {
+            log.debug("[SocialProvisioning] social account linked concurrently userId={}", linkedUserId);
+            authMetrics.recordSocialProvisioning(startedAt, provider, "existing");
+            return loadUser(linkedUserId);
         }
 
-        String name = deriveName(nameFromProvider, email);
-        String nickname = generateUniqueNickname(name, provider);
-        String encodedPassword = passwordEncoder.encode(UUID.randomUUID().toString());
-
-        User newUser = User.create(
-                email,
-                name,
-                nickname,
-                encodedPassword,
-                Gender.OTHER,
-                LocalDate.now(),
-                "",
-                false
-        );
-        User savedUser = userRepository.saveAndFlush(newUser);
-        log.info("[SocialProvisioning] new user created userId={} email={} nickname={}", savedUser.getId(), savedUser.getEmail(), savedUser.getNickname());
-        socialAccount.associateUser(savedUser);
-        socialAccountRepository.saveAndFlush(socialAccount);
-        return savedUser;
+        String email = deriveEmail(provider, providerUserId, emailFromProvider);
+        ProvisionedUser provisioned = provisionUser(email, deriveName(nameFromProvider, email), provider);
+        socialAccountRepository.linkUser(
+                provider.name(), providerUserId, provisioned.userId(), emailFromProvider, nameFromProvider);
+        log.debug("[SocialProvisioning] social account linked userId={} created={}", provisioned.userId(), provisioned.created());
+        authMetrics.recordSocialProvisioning(startedAt, provider, provisioned.created() ? "created" : "linked");
+        return loadUser(provisioned.userId());
     }
 
     private String deriveEmail(AuthProvider provider, String providerUserId, String originalEmail) {
@@ -96,17 +83,73 @@ public class SocialUserProvisioningService {
         return atIndex > 0 ? fallbackEmail.substring(0, atIndex) : fallbackEmail;
     }
 
-    private String generateUniqueNickname(String baseName, AuthProvider provider) {
+    private ProvisionedUser provisionUser(String email, String name, AuthProvider provider) {
+        String base = nicknameBase(name, provider);
+        Set<String> taken = properties.getNicknameStrategy() == NicknameStrategy.SEQUENTIAL
+                ? new HashSet<>(userRepository.findNicknamesStartingWith(base))
+                : new HashSet<>();
+
+        for (int attempt = 1; attempt <= properties.getMaxNicknameAttempts(); attempt++) {
+            String candidate = nextNickname(base, taken);
+            Optional<Long> inserted = userRepository.insertSocialUser(
+                    email, name, candidate, Gender.OTHER.name(), LocalDate.now(), "");
+            if (inserted.isPresent()) {
+                authMetrics.recordNicknameAttempts(provider, attempt);
+                return new ProvisionedUser(inserted.get(), true);
+            }
+
+            Optional<Long> byEmail = userRepository.findIdByEmail(email);
+            if (byEmail.isPresent()) {
+                return new ProvisionedUser(byEmail.get(), false);
+            }
+            taken.add(candidate);
+        }
+        authMetrics.recordNicknameAttempts(provider, properties.getMaxNicknameAttempts());
+        throw new IllegalStateException("사용 가능한 닉네임을 찾지 못했습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    private User loadUser(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalStateException("연결된 사용자를 찾을 수 없습니다."));
+    }
+
+    private String nicknameBase(String baseName, AuthProvider provider) {
         String sanitized = baseName.replaceAll("[^a-zA-Z0-9]", "").toLowerCase(Locale.ROOT);
         if (sanitized.isBlank()) {
             sanitized = provider.name().toLowerCase(Locale.ROOT);
         }
-        String candidate = sanitized;
-        int suffix = 1;
-        while (userRepository.existsByNickname(candidate)) {
-            candidate = sanitized + suffix;
-            suffix++;
+        return sanitized.length() > MAX_NICKNAME_BASE_LENGTH
+                ? sanitized.substring(0, MAX_NICKNAME_BASE_LENGTH)
+                : sanitized;
+    }
+
+    private String nextNickname(String base, Set<String> taken) {
+        if (!taken.contains(base)) {
+            return base;
+        }
+        if (properties.getNicknameStrategy() == NicknameStrategy.RANDOM) {
+            return base + ThreadLocalRandom.current().nextInt(1_000, 1_000_000);
         }
-        return candidate;
+
+        return nextSequentialNickname(base, taken);
+    }
+
+    static String nextSequentialNickname(String base, Set<String> taken) {
+        int maxUsefulSuffix = taken.size() + 1;
+        BitSet usedSuffixes = new BitSet(maxUsefulSuffix + 1);
+        for (String nickname : taken) {
+            String suffix = nickname.substring(base.length());
+            if (!suffix.isEmpty() && suffix.length() <= 9 && suffix.charAt(0) != '0'
+                    && suffix.chars().allMatch(Character::isDigit)) {
+                int value = Integer.parseInt(suffix);
+                if (value <= maxUsefulSuffix) {
+                    usedSuffixes.set(value);
+                }
+            }
+        }
+        return base + usedSuffixes.nextClearBit(1);
+    }
+
+    private record ProvisionedUser(Long userId, boolean created) {
     }
 }
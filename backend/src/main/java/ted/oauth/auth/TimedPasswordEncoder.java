@@ -0,0 +1,41 @@
+package ted.oauth.auth;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final AuthMetrics authMetrics;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate, AuthMetrics authMetrics) {
+        this.delegate = delegate;
+        this.authMetrics = authMetrics;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        long startedAt = authMetrics.start();
+        try {
+            return delegate.encode(rawPassword);
+        } finally {
+            authMetrics.recordPasswordEncode(startedAt);
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long startedAt = authMetrics.start();
+        boolean matched = false;
+        try {
+            matched = delegate.matches(rawPassword, encodedPassword);
+            return matched;
+        } finally {
+            authMetrics.recordPasswordMatch(startedAt, matched);
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -1,6 +1,8 @@
 package ted.oauth.auth;
 
+import ted.oauth.social.AuthProvider;
 import ted.oauth.user.User;
+import ted.oauth.user.UserSnapshot;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -18,6 +20,7 @@ public class UserPrincipal implements OAuth2User, UserDetails {
     private final boolean profileCompleted;
     private final Collection<? extends GrantedAuthority> authorities;
     private Map<String, Object> attributes = new HashMap<>();
+    private AuthProvider provider;
 
     private UserPrincipal(Long id,
                           String email,
@@ -36,11 +39,30 @@ public class UserPrincipal implements OAuth2User, UserDetails {
         return new UserPrincipal(user.getId(), user.getEmail(), user.getPassword(), user.isProfileCompleted(), authorities);
     }
 
+    public static UserPrincipal from(UserSnapshot user) {
+        return from(user, null);
+    }
+
+    public static UserPrincipal from(UserSnapshot user, String password) {
+        Collection<SimpleGrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority(user.role()));
+        return new UserPrincipal(user.id(), user.email(), password, user.profileCompleted(), authorities);
+    }
+
+    public static UserPrincipal fromClaims(AccessTokenClaims claims) {
+        Collection<SimpleGrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority(claims.role()));
+        return new UserPrincipal(claims.userId(), claims.email(), null, claims.profileCompleted(), authorities);
+    }
+
     public static UserPrincipal fromSocial(String email, boolean profileCompleted) {
         Collection<SimpleGrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
         return new UserPrincipal(null, email, "", profileCompleted, authorities);
     }
 
+    public UserPrincipal withProvider(AuthProvider provider) {
+        this.provider = provider;
+        return this;
+    }
+
     public UserPrincipal withAttributes(Map<String, Object> attributes) {
         this.attributes = attributes;
         return this;
@@ -50,6 +72,10 @@ public class UserPrincipal implements OAuth2User, UserDetails {
         return id;
     }
 
+    public AuthProvider getProvider() {
+        return provider;
+    }
+
     public boolean isProfileCompleted() {
         return profileCompleted;
     }
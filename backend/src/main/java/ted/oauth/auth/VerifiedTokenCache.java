@@ -0,0 +1,83 @@
+package ted.oauth.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.stereotype.Component;
+import ted.oauth.config.JwtProperties;
+
+@Component
+public class VerifiedTokenCache {
+
+    private final boolean enabled;
+    private final JwtKeyRing keyRing;
+    private final Cache<ByteBuffer, AccessTokenClaims> cache;
+    private volatile String keyRingVersion;
+
+    public VerifiedTokenCache(JwtProperties jwtProperties, JwtKeyRing keyRing, MeterRegistry meterRegistry) {
+        this.enabled = jwtProperties.getVerifiedTokenCacheSize() > 0;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getVerifiedTokenCacheSize())
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        this.keyRing = keyRing;
+        this.keyRingVersion = keyRing.getJwksEtag();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-tokens");
+    }
+
+    public AccessTokenClaims get(String token) {
+        if (!enabled) {
+            return null;
+        }
+        invalidateOnKeyRotation();
+        return cache.getIfPresent(key(token));
+    }
+
+    public void put(String token, AccessTokenClaims claims) {
+        if (enabled) {
+            invalidateOnKeyRotation();
+            cache.put(key(token), claims);
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static ByteBuffer key(String token) {
+        return ByteBuffer.wrap(TokenDigest.sha256(token));
+    }
+
+    private void invalidateOnKeyRotation() {
+        String current = keyRing.getJwksEtag();
+        if (!current.equals(keyRingVersion)) {
+            keyRingVersion = current;
+            cache.invalidateAll();
+        }
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<ByteBuffer, AccessTokenClaims> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, AccessTokenClaims claims, long currentTime) {
+            long remaining = Duration.between(Instant.now(), claims.expiresAt()).toNanos();
+            return Math.max(remaining, 0L);
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, AccessTokenClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, AccessTokenClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
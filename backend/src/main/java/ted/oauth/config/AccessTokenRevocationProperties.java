@@ -0,0 +1,38 @@
+package ted.oauth.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "access-token-revocation")
+public class AccessTokenRevocationProperties {
+
+    private Duration syncInterval = Duration.ofSeconds(5);
+    private Duration syncOverlap = Duration.ofSeconds(30);
+    private Duration purgeInterval = Duration.ofMinutes(10);
+
+    public Duration getSyncInterval() {
+        return syncInterval;
+    }
+
+    public void setSyncInterval(Duration syncInterval) {
+        this.syncInterval = syncInterval;
+    }
+
+    public Duration getSyncOverlap() {
+        return syncOverlap;
+    }
+
+    public void setSyncOverlap(Duration syncOverlap) {
+        this.syncOverlap = syncOverlap;
+    }
+
+    public Duration getPurgeInterval() {
+        return purgeInterval;
+    }
+
+    public void setPurgeInterval(Duration purgeInterval) {
+        this.purgeInterval = purgeInterval;
+    }
+}
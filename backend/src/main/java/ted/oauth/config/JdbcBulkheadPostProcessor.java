@@ -0,0 +1,34 @@
+package ted.oauth.config;
+
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class JdbcBulkheadPostProcessor implements BeanPostProcessor {
+
+    private final Environment environment;
+
+    public JdbcBulkheadPostProcessor(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof BoundedDataSource) {
+            return bean;
+        }
+        JdbcBulkheadProperties properties = Binder.get(environment)
+                .bindOrCreate("jdbc-bulkhead", JdbcBulkheadProperties.class);
+        log.info("[JdbcBulkhead] virtual threads enabled, bounding {} to {} concurrent connections",
+                beanName, properties.getPermits());
+        return new BoundedDataSource(dataSource, properties.getPermits(), properties.getAcquireTimeout());
+    }
+}
@@ -1,5 +1,7 @@
 package ted.oauth.config;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
@@ -8,8 +10,16 @@ import org.springframework.stereotype.Component;
 public class JwtProperties {
 
     private String secret;
+    private String algorithm = "HS256";
+    private String activeKeyId;
+    private List<SigningKey> keys = new ArrayList<>();
+    private boolean allowEphemeralKeys;
     private long accessTokenValiditySeconds;
     private long refreshTokenValiditySeconds;
+    private PrincipalSource principalSource = PrincipalSource.DATABASE;
+    private long verifiedTokenCacheSize = 10_000;
+    private int maxSessionsPerUser = 5;
+    private long refreshTokenReuseGraceSeconds = 10;
 
     public String getSecret() {
         return secret;
@@ -19,6 +29,38 @@ public class JwtProperties {
         this.secret = secret;
     }
 
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public void setAlgorithm(String algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public String getActiveKeyId() {
+        return activeKeyId;
+    }
+
+    public void setActiveKeyId(String activeKeyId) {
+        this.activeKeyId = activeKeyId;
+    }
+
+    public List<SigningKey> getKeys() {
+        return keys;
+    }
+
+    public void setKeys(List<SigningKey> keys) {
+        this.keys = keys;
+    }
+
+    public boolean isAllowEphemeralKeys() {
+        return allowEphemeralKeys;
+    }
+
+    public void setAllowEphemeralKeys(boolean allowEphemeralKeys) {
+        this.allowEphemeralKeys = allowEphemeralKeys;
+    }
+
     public long getAccessTokenValiditySeconds() {
         return accessTokenValiditySeconds;
     }
@@ -34,4 +76,67 @@ public class JwtProperties {
     public void setRefreshTokenValiditySeconds(long refreshTokenValiditySeconds) {
         this.refreshTokenValiditySeconds = refreshTokenValiditySeconds;
     }
+
+    public PrincipalSource getPrincipalSource() {
+        return principalSource;
+    }
+
+    public void setPrincipalSource(PrincipalSource principalSource) {
+        this.principalSource = principalSource;
+    }
+
+    public long getVerifiedTokenCacheSize() {
+        return verifiedTokenCacheSize;
+    }
+
+    public void setVerifiedTokenCacheSize(long verifiedTokenCacheSize) {
+        this.verifiedTokenCacheSize = verifiedTokenCacheSize;
+    }
+
+    public int getMaxSessionsPerUser() {
+        return maxSessionsPerUser;
+    }
+
+    public void setMaxSessionsPerUser(int maxSessionsPerUser) {
+        this.maxSessionsPerUser = maxSessionsPerUser;
+    }
+
+    public long getRefreshTokenReuseGraceSeconds() {
+        return refreshTokenReuseGraceSeconds;
+    }
+
+    public void setRefreshTokenReuseGraceSeconds(long refreshTokenReuseGraceSeconds) {
+        this.refreshTokenReuseGraceSeconds = refreshTokenReuseGraceSeconds;
+    }
+
+    public static class SigningKey {
+
+        private String kid;
+        private String privateKey;
+        private String publicKey;
+
+        public String getKid() {
+            return kid;
+        }
+
+        public void setKid(String kid) {
+            this.kid = kid;
+        }
+
+        public String getPrivateKey() {
+            return privateKey;
+        }
+
+        public void setPrivateKey(String privateKey) {
+            this.privateKey = privateKey;
+        }
+
+        public String getPublicKey() {
+            return publicKey;
+        }
+
+        public void setPublicKey(String publicKey) {
+            this.publicKey = publicKey;
+        }
+    }
 }
@@ -0,0 +1,21 @@
+package ted.oauth.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ted.oauth.auth.JdbcLoginRateLimitStore;
+import ted.oauth.auth.LocalLoginRateLimitStore;
+import ted.oauth.auth.LoginAttemptWindowRepository;
+import ted.oauth.auth.LoginRateLimitStore;
+
+@Configuration
+public class LoginRateLimitConfig {
+
+    @Bean
+    public LoginRateLimitStore loginRateLimitStore(LoginRateLimitProperties properties,
+                                                   LoginAttemptWindowRepository loginAttemptWindowRepository) {
+        return switch (properties.getBackend()) {
+            case LOCAL -> new LocalLoginRateLimitStore(properties.getSlots());
+            case JDBC -> new JdbcLoginRateLimitStore(loginAttemptWindowRepository, properties.getWindow());
+        };
+    }
+}
@@ -0,0 +1,85 @@
+package ted.oauth.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "login-rate-limit")
+public class LoginRateLimitProperties {
+
+    private boolean enabled = true;
+    private LoginRateLimitBackend backend = LoginRateLimitBackend.LOCAL;
+    private Duration window = Duration.ofMinutes(1);
+    private int maxAttemptsPerIdentifier = 30;
+    private int maxAttemptsPerIdentifierAndIp = 10;
+    private int maxAttemptsPerIp = 100;
+    private int slots = 65536;
+    private List<String> trustedProxies = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public LoginRateLimitBackend getBackend() {
+        return backend;
+    }
+
+    public void setBackend(LoginRateLimitBackend backend) {
+        this.backend = backend;
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public void setWindow(Duration window) {
+        this.window = window;
+    }
+
+    public int getMaxAttemptsPerIdentifier() {
+        return maxAttemptsPerIdentifier;
+    }
+
+    public void setMaxAttemptsPerIdentifier(int maxAttemptsPerIdentifier) {
+        this.maxAttemptsPerIdentifier = maxAttemptsPerIdentifier;
+    }
+
+    public int getMaxAttemptsPerIdentifierAndIp() {
+        return maxAttemptsPerIdentifierAndIp;
+    }
+
+    public void setMaxAttemptsPerIdentifierAndIp(int maxAttemptsPerIdentifierAndIp) {
+        this.maxAttemptsPerIdentifierAndIp = maxAttemptsPerIdentifierAndIp;
+    }
+
+    public int getMaxAttemptsPerIp() {
+        return maxAttemptsPerIp;
+    }
+
+    public void setMaxAttemptsPerIp(int maxAttemptsPerIp) {
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+    }
+
+    public int getSlots() {
+        return slots;
+    }
+
+    public void setSlots(int slots) {
+        this.slots = slots;
+    }
+
+    public List<String> getTrustedProxies() {
+        return trustedProxies;
+    }
+
+    public void setTrustedProxies(List<String> trustedProxies) {
+        this.trustedProxies = trustedProxies;
+    }
+}
@@ -0,0 +1,6 @@
+package ted.oauth.config;
+
+public enum NicknameStrategy {
+    SEQUENTIAL,
+    RANDOM
+}
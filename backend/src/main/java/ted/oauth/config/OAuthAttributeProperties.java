@@ -0,0 +1,52 @@
+package ted.oauth.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "oauth-attributes")
+public class OAuthAttributeProperties {
+
+    private Map<String, Mapping> providers = new LinkedHashMap<>();
+
+    public Map<String, Mapping> getProviders() {
+        return providers;
+    }
+
+    public void setProviders(Map<String, Mapping> providers) {
+        this.providers = providers;
+    }
+
+    public static class Mapping {
+
+        private String id;
+        private String email;
+        private String displayName;
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(String email) {
+            this.email = email;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        public void setDisplayName(String displayName) {
+            this.displayName = displayName;
+        }
+    }
+}
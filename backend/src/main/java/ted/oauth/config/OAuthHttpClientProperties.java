@@ -0,0 +1,71 @@
+package ted.oauth.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "oauth-http-client")
+public class OAuthHttpClientProperties {
+
+    private Map<String, Client> providers = new LinkedHashMap<>();
+
+    public Map<String, Client> getProviders() {
+        return providers;
+    }
+
+    public void setProviders(Map<String, Client> providers) {
+        this.providers = providers;
+    }
+
+    public static class Client {
+
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration readTimeout = Duration.ofSeconds(5);
+        private boolean http2 = true;
+        private int maxConcurrentRequests = 32;
+        private Duration bulkheadWait = Duration.ofMillis(100);
+
+        public Duration getConnectTimeout() {
+            return connectTimeout;
+        }
+
+        public void setConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+        }
+
+        public Duration getReadTimeout() {
+            return readTimeout;
+        }
+
+        public void setReadTimeout(Duration readTimeout) {
+            this.readTimeout = readTimeout;
+        }
+
+        public boolean isHttp2() {
+            return http2;
+        }
+
+        public void setHttp2(boolean http2) {
+            this.http2 = http2;
+        }
+
+        public int getMaxConcurrentRequests() {
+            return maxConcurrentRequests;
+        }
+
+        public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+        }
+
+        public Duration getBulkheadWait() {
+            return bulkheadWait;
+        }
+
+        public void setBulkheadWait(Duration bulkheadWait) {
+            this.bulkheadWait = bulkheadWait;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package ted.oauth.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "oidc-id-token")
+public class OidcIdTokenProperties {
+
+    private Duration jwksRefreshInterval = Duration.ofHours(1);
+    private Duration jwksMinRefreshGap = Duration.ofSeconds(30);
+    private Duration clockSkew = Duration.ofSeconds(60);
+    private Map<String, String> issuers = new LinkedHashMap<>();
+
+    public Duration getJwksRefreshInterval() {
+        return jwksRefreshInterval;
+    }
+
+    public void setJwksRefreshInterval(Duration jwksRefreshInterval) {
+        this.jwksRefreshInterval = jwksRefreshInterval;
+    }
+
+    public Duration getJwksMinRefreshGap() {
+        return jwksMinRefreshGap;
+    }
+
+    public void setJwksMinRefreshGap(Duration jwksMinRefreshGap) {
+        this.jwksMinRefreshGap = jwksMinRefreshGap;
+    }
+
+    public Duration getClockSkew() {
+        return clockSkew;
+    }
+
+    public void setClockSkew(Duration clockSkew) {
+        this.clockSkew = clockSkew;
+    }
+
+    public Map<String, String> getIssuers() {
+        return issuers;
+    }
+
+    public void setIssuers(Map<String, String> issuers) {
+        this.issuers = issuers;
+    }
+}
@@ -1,15 +1,41 @@
 package ted.oauth.config;
 
+import java.util.Locale;
+import java.util.Map;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import ted.oauth.auth.AuthMetrics;
+import ted.oauth.auth.BoundedPasswordEncoder;
+import ted.oauth.auth.TimedPasswordEncoder;
 
 @Configuration
 public class PasswordConfig {
 
+    private static final String BCRYPT = "bcrypt";
+    private static final String ARGON2 = "argon2";
+
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties, AuthMetrics authMetrics) {
+        String idForEncode = properties.getAlgorithm().toLowerCase(Locale.ROOT);
+        if (!idForEncode.equals(BCRYPT) && !idForEncode.equals(ARGON2)) {
+            throw new IllegalStateException("지원하지 않는 비밀번호 해시 알고리즘입니다: " + properties.getAlgorithm());
+        }
+
+        PasswordEncoder bcrypt = new BCryptPasswordEncoder(idForEncode.equals(BCRYPT)
+                ? PasswordHashCalibrator.bcryptStrength(properties)
+                : properties.getBcryptStrength());
+        PasswordEncoder argon2 = PasswordHashCalibrator.argon2(properties, idForEncode.equals(ARGON2)
+                ? PasswordHashCalibrator.argon2Iterations(properties)
+                : properties.getArgon2Iterations());
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(idForEncode,
+                Map.of(BCRYPT, bcrypt, ARGON2, argon2));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        return new BoundedPasswordEncoder(new TimedPasswordEncoder(delegating, authMetrics),
+                properties.getMaxConcurrentHashes(), properties.getQueueCapacity(), authMetrics);
     }
 }
@@ -0,0 +1,67 @@
+package ted.oauth.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@Slf4j
+final class PasswordHashCalibrator {
+
+    private static final int MAX_BCRYPT_STRENGTH = 16;
+    private static final int MAX_ARGON2_ITERATIONS = 10;
+    private static final int SAMPLES = 3;
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    private PasswordHashCalibrator() {
+    }
+
+    static int bcryptStrength(PasswordHashingProperties properties) {
+        int strength = properties.getBcryptStrength();
+        if (!properties.isCalibrate()) {
+            return strength;
+        }
+
+        long targetNanos = properties.getTargetLatency().toNanos();
+        long estimatedNanos = fastestEncode(new BCryptPasswordEncoder(strength));
+        while (strength < MAX_BCRYPT_STRENGTH && estimatedNanos * 2 <= targetNanos) {
+            strength++;
+            estimatedNanos *= 2;
+        }
+        log.info("[PasswordHashing] bcrypt strength={} estimated={}ms target={}ms",
+                strength, estimatedNanos / 1_000_000, properties.getTargetLatency().toMillis());
+        return strength;
+    }
+
+    static int argon2Iterations(PasswordHashingProperties properties) {
+        int iterations = properties.getArgon2Iterations();
+        if (!properties.isCalibrate()) {
+            return iterations;
+        }
+
+        long targetNanos = properties.getTargetLatency().toNanos();
+        long measuredNanos = fastestEncode(argon2(properties, iterations));
+        long perIteration = Math.max(measuredNanos / iterations, 1);
+        int calibrated = (int) Math.min(MAX_ARGON2_ITERATIONS, Math.max(iterations, targetNanos / perIteration));
+        log.info("[PasswordHashing] argon2id iterations={} memory={}KiB estimated={}ms target={}ms",
+                calibrated, properties.getArgon2MemoryKib(), perIteration * calibrated / 1_000_000,
+                properties.getTargetLatency().toMillis());
+        return calibrated;
+    }
+
+    static Argon2PasswordEncoder argon2(PasswordHashingProperties properties, int iterations) {
+        return new Argon2PasswordEncoder(16, 32, properties.getArgon2Parallelism(),
+                properties.getArgon2MemoryKib(), iterations);
+    }
+
+    private static long fastestEncode(PasswordEncoder encoder) {
+        encoder.encode(SAMPLE_PASSWORD);
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long startedAt = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            fastest = Math.min(fastest, System.nanoTime() - startedAt);
+        }
+        return fastest;
+    }
+}
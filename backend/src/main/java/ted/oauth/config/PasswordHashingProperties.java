@@ -0,0 +1,92 @@
+package ted.oauth.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "password-hashing")
+public class PasswordHashingProperties {
+
+    private String algorithm = "bcrypt";
+    private boolean calibrate = true;
+    private Duration targetLatency = Duration.ofMillis(100);
+    private int bcryptStrength = 10;
+    private int argon2Iterations = 2;
+    private int argon2MemoryKib = 19_456;
+    private int argon2Parallelism = 1;
+    private int maxConcurrentHashes = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity = 32;
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public void setAlgorithm(String algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public boolean isCalibrate() {
+        return calibrate;
+    }
+
+    public void setCalibrate(boolean calibrate) {
+        this.calibrate = calibrate;
+    }
+
+    public Duration getTargetLatency() {
+        return targetLatency;
+    }
+
+    public void setTargetLatency(Duration targetLatency) {
+        this.targetLatency = targetLatency;
+    }
+
+    public int getBcryptStrength() {
+        return bcryptStrength;
+    }
+
+    public void setBcryptStrength(int bcryptStrength) {
+        this.bcryptStrength = bcryptStrength;
+    }
+
+    public int getArgon2Iterations() {
+        return argon2Iterations;
+    }
+
+    public void setArgon2Iterations(int argon2Iterations) {
+        this.argon2Iterations = argon2Iterations;
+    }
+
+    public int getArgon2MemoryKib() {
+        return argon2MemoryKib;
+    }
+
+    public void setArgon2MemoryKib(int argon2MemoryKib) {
+        this.argon2MemoryKib = argon2MemoryKib;
+    }
+
+    public int getArgon2Parallelism() {
+        return argon2Parallelism;
+    }
+
+    public void setArgon2Parallelism(int argon2Parallelism) {
+        this.argon2Parallelism = argon2Parallelism;
+    }
+
+    public int getMaxConcurrentHashes() {
+        return maxConcurrentHashes;
+    }
+
+    public void setMaxConcurrentHashes(int maxConcurrentHashes) {
+        this.maxConcurrentHashes = maxConcurrentHashes;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+}
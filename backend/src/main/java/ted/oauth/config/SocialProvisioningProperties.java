@@ -0,0 +1,28 @@
+package ted.oauth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "social-provisioning")
+public class SocialProvisioningProperties {
+
+    private NicknameStrategy nicknameStrategy = NicknameStrategy.SEQUENTIAL;
+    private int maxNicknameAttempts = 5;
+
+    public NicknameStrategy getNicknameStrategy() {
+        return nicknameStrategy;
+    }
+
+    public void setNicknameStrategy(NicknameStrategy nicknameStrategy) {
+        this.nicknameStrategy = nicknameStrategy;
+    }
+
+    public int getMaxNicknameAttempts() {
+        return maxNicknameAttempts;
+    }
+
+    public void setMaxNicknameAttempts(int maxNicknameAttempts) {
+        this.maxNicknameAttempts = maxNicknameAttempts;
+    }
+}
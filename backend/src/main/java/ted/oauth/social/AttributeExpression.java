@@ -0,0 +1,67 @@
+package ted.oauth.social;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+final class AttributeExpression {
+
+    private final String[][][] alternatives;
+
+    private AttributeExpression(String[][][] alternatives) {
+        this.alternatives = alternatives;
+    }
+
+    static AttributeExpression compile(String expression) {
+        if (expression == null || expression.isBlank()) {
+            throw new IllegalStateException("OAuth 속성 경로가 비어 있습니다.");
+        }
+        List<String[][]> compiled = new ArrayList<>();
+        for (String alternative : expression.split(",")) {
+            String[] parts = alternative.split("\\+");
+            String[][] paths = new String[parts.length][];
+            for (int i = 0; i < parts.length; i++) {
+                paths[i] = parts[i].trim().split("\\.");
+            }
+            compiled.add(paths);
+        }
+        return new AttributeExpression(compiled.toArray(String[][][]::new));
+    }
+
+    String resolve(Map<String, Object> attributes) {
+        for (String[][] paths : alternatives) {
+            String value = paths.length == 1 ? scalar(attributes, paths[0]) : joined(attributes, paths);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static String joined(Map<String, Object> attributes, String[][] paths) {
+        StringJoiner joiner = new StringJoiner(" ");
+        for (String[] path : paths) {
+            String part = scalar(attributes, path);
+            if (part != null && !part.isBlank()) {
+                joiner.add(part.trim());
+            }
+        }
+        String value = joiner.toString();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String scalar(Map<String, Object> attributes, String[] path) {
+        Object current = attributes;
+        for (String segment : path) {
+            if (!(current instanceof Map<?, ?> map)) {
+                return null;
+            }
+            current = map.get(segment);
+        }
+        if (current == null || current instanceof Map<?, ?> || current instanceof Iterable<?>) {
+            return null;
+        }
+        return current.toString();
+    }
+}
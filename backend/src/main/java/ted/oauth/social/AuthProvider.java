@@ -1,8 +1,14 @@
 package ted.oauth.social;
 
+import java.util.Locale;
+
 public enum AuthProvider {
     GOOGLE,
     KAKAO,
     NAVER,
-    APPLE
+    APPLE;
+
+    public static AuthProvider fromRegistrationId(String registrationId) {
+        return valueOf(registrationId.toUpperCase(Locale.ROOT));
+    }
 }
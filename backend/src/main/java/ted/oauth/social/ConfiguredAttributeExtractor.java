@@ -0,0 +1,41 @@
+package ted.oauth.social;
+
+import java.util.Map;
+
+public class ConfiguredAttributeExtractor implements OAuthAttributeExtractor {
+
+    private final String registrationId;
+    private final AttributeExpression providerUserId;
+    private final AttributeExpression email;
+    private final AttributeExpression displayName;
+
+    public ConfiguredAttributeExtractor(String registrationId,
+                                        String providerUserIdPath,
+                                        String emailPath,
+                                        String displayNamePath) {
+        this.registrationId = registrationId;
+        this.providerUserId = AttributeExpression.compile(providerUserIdPath);
+        this.email = AttributeExpression.compile(emailPath);
+        this.displayName = AttributeExpression.compile(displayNamePath);
+    }
+
+    @Override
+    public String registrationId() {
+        return registrationId;
+    }
+
+    @Override
+    public String providerUserId(Map<String, Object> attributes) {
+        return providerUserId.resolve(attributes);
+    }
+
+    @Override
+    public String email(Map<String, Object> attributes) {
+        return email.resolve(attributes);
+    }
+
+    @Override
+    public String displayName(Map<String, Object> attributes) {
+        return displayName.resolve(attributes);
+    }
+}
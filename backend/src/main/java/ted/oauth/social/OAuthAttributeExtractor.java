@@ -0,0 +1,14 @@
+package ted.oauth.social;
+
+import java.util.Map;
+
+public interface OAuthAttributeExtractor {
+
+    String registrationId();
+
+    String providerUserId(Map<String, Object> attributes);
+
+    String email(Map<String, Object> attributes);
+
+    String displayName(Map<String, Object> attributes);
+}
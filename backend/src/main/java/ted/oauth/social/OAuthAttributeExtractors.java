@@ -0,0 +1,37 @@
+package ted.oauth.social;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.security.oauth2.client.OAuth2ClientProperties;
+import org.springframework.stereotype.Component;
+import ted.oauth.config.OAuthAttributeProperties;
+
+@Component
+public class OAuthAttributeExtractors {
+
+    private final Map<String, OAuthAttributeExtractor> extractors = new HashMap<>();
+
+    public OAuthAttributeExtractors(OAuthAttributeProperties properties,
+                                    OAuth2ClientProperties clientProperties,
+                                    List<OAuthAttributeExtractor> customExtractors) {
+        properties.getProviders().forEach((registrationId, mapping) -> extractors.put(registrationId,
+                new ConfiguredAttributeExtractor(
+                        registrationId, mapping.getId(), mapping.getEmail(), mapping.getDisplayName())));
+        customExtractors.forEach(extractor -> extractors.put(extractor.registrationId(), extractor));
+
+        for (String registrationId : clientProperties.getRegistration().keySet()) {
+            if (!extractors.containsKey(registrationId)) {
+                throw new IllegalStateException("OAuth 속성 매핑이 없는 제공자입니다: " + registrationId);
+            }
+        }
+    }
+
+    public OAuthAttributeExtractor get(String registrationId) {
+        OAuthAttributeExtractor extractor = extractors.get(registrationId);
+        if (extractor == null) {
+            throw new IllegalArgumentException("OAuth 속성 매핑이 없는 제공자입니다: " + registrationId);
+        }
+        return extractor;
+    }
+}
@@ -12,6 +12,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import java.util.Objects;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -64,8 +65,12 @@ public class SocialAccount extends BaseTimeEntity {
     }
 
 
-    public void updateProfile(String email, String displayName) {
+    public boolean updateProfile(String email, String displayName) {
+        if (Objects.equals(this.email, email) && Objects.equals(this.displayName, displayName)) {
+            return false;
+        }
         this.email = email;
         this.displayName = displayName;
+        return true;
     }
 }
@@ -2,9 +2,40 @@ package ted.oauth.social;
 
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface SocialAccountRepository extends JpaRepository<SocialAccount, Long> {
 
-    Optional<SocialAccount> findByProviderAndProviderUserId(AuthProvider provider, String providerUserId);
+    @Query("select s from SocialAccount s left join fetch s.user "
+            + "where s.provider = :provider and s.providerUserId = :providerUserId")
+    Optional<SocialAccount> findWithUserByProviderAndProviderUserId(@Param("provider") AuthProvider provider,
+                                                                    @Param("providerUserId") String providerUserId);
 
+    @Modifying
+    @Query(value = "INSERT INTO social_account (provider, provider_user_id, email, display_name, created_at, updated_at) "
+            + "VALUES (:provider, :providerUserId, :email, :displayName, now(), now()) "
+            + "ON CONFLICT (provider, provider_user_id) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("provider") String provider,
+                       @Param("providerUserId") String providerUserId,
+                       @Param("email") String email,
+                       @Param("displayName") String displayName);
+
+    @Query(value = "SELECT user_id FROM social_account "
+            + "WHERE provider = :provider AND provider_user_id = :providerUserId FOR UPDATE",
+            nativeQuery = true)
+    Optional<Long> lockLinkedUserId(@Param("provider") String provider,
+                                    @Param("providerUserId") String providerUserId);
+
+    @Modifying
+    @Query(value = "UPDATE social_account SET user_id = :userId, email = :email, display_name = :displayName, "
+            + "updated_at = now() WHERE provider = :provider AND provider_user_id = :providerUserId",
+            nativeQuery = true)
+    int linkUser(@Param("provider") String provider,
+                 @Param("providerUserId") String providerUserId,
+                 @Param("userId") Long userId,
+                 @Param("email") String email,
+                 @Param("displayName") String displayName);
 }
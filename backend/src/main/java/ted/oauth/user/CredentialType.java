@@ -0,0 +1,6 @@
+package ted.oauth.user;
+
+public enum CredentialType {
+    PASSWORD,
+    SOCIAL_ONLY
+}
@@ -0,0 +1,14 @@
+package ted.oauth.user;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface SocialUserInsert {
+
+    Optional<Long> insertSocialUser(String email,
+                                    String name,
+                                    String nickname,
+                                    String gender,
+                                    LocalDate birthday,
+                                    String introduce);
+}
@@ -0,0 +1,57 @@
+package ted.oauth.user;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.hibernate.Session;
+
+class SocialUserInsertImpl implements SocialUserInsert {
+
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private static final String INSERT_SOCIAL_USER =
+            "INSERT INTO users (email, name, nickname, password, credential_type, gender, birthday, introduce, "
+                    + "profile_completed, role, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, NULL, 'SOCIAL_ONLY', ?, ?, ?, false, 'ROLE_USER', now(), now()) "
+                    + "ON CONFLICT (email) DO NOTHING RETURNING id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Long> insertSocialUser(String email,
+                                           String name,
+                                           String nickname,
+                                           String gender,
+                                           LocalDate birthday,
+                                           String introduce) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SOCIAL_USER)) {
+                statement.setString(1, email);
+                statement.setString(2, name);
+                statement.setString(3, nickname);
+                statement.setString(4, gender);
+                statement.setDate(5, Date.valueOf(birthday));
+                statement.setString(6, introduce);
+                try (ResultSet inserted = statement.executeQuery()) {
+                    Optional<Long> id = inserted.next() ? Optional.of(inserted.getLong(1)) : Optional.empty();
+                    connection.releaseSavepoint(savepoint);
+                    return id;
+                }
+            } catch (SQLException ex) {
+                if (!UNIQUE_VIOLATION.equals(ex.getSQLState())) {
+                    throw ex;
+                }
+                connection.rollback(savepoint);
+                return Optional.empty();
+            }
+        });
+    }
+}
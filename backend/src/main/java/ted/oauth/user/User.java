@@ -8,10 +8,16 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
 import ted.oauth.common.BaseTimeEntity;
 
 @Getter
@@ -33,9 +39,12 @@ public class User extends BaseTimeEntity {
     @Column(nullable = false, unique = true, length = 60)
     private String nickname;
 
-    @Column(nullable = false)
     private String password;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "credential_type", nullable = false, length = 16)
+    private CredentialType credentialType = CredentialType.PASSWORD;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 16)
     private Gender gender;
@@ -52,6 +61,10 @@ public class User extends BaseTimeEntity {
     @Column(nullable = false)
     private String role = "ROLE_USER";
 
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private final List<Object> domainEvents = new ArrayList<>();
+
     private User(String email,
                  String name,
                  String nickname,
@@ -59,11 +72,13 @@ public class User extends BaseTimeEntity {
                  Gender gender,
                  LocalDate birthday,
                  String introduce,
-                 boolean profileCompleted) {
+                 boolean profileCompleted,
+                 CredentialType credentialType) {
         this.email = email;
         this.name = name;
         this.nickname = nickname;
         this.password = password;
+        this.credentialType = credentialType;
         this.gender = gender;
         this.birthday = birthday;
         this.introduce = introduce;
@@ -78,7 +93,19 @@ public class User extends BaseTimeEntity {
                               LocalDate birthday,
                               String introduce,
                               boolean profileCompleted) {
-        return new User(email, name, nickname, password, gender, birthday, introduce, profileCompleted);
+        return new User(email, name, nickname, password, gender, birthday, introduce, profileCompleted,
+                CredentialType.PASSWORD);
+    }
+
+    public static User createSocial(String email,
+                                    String name,
+                                    String nickname,
+                                    Gender gender,
+                                    LocalDate birthday,
+                                    String introduce,
+                                    boolean profileCompleted) {
+        return new User(email, name, nickname, null, gender, birthday, introduce, profileCompleted,
+                CredentialType.SOCIAL_ONLY);
     }
 
     public void completeProfile(String name,
@@ -92,14 +119,38 @@ public class User extends BaseTimeEntity {
         this.birthday = birthday;
         this.introduce = introduce;
         this.profileCompleted = true;
+        changed();
     }
 
     public void updatePassword(String encodedPassword) {
         this.password = encodedPassword;
+        this.credentialType = CredentialType.PASSWORD;
+        changed();
     }
 
     public void updateIntroduce(String introduce) {
         this.introduce = introduce;
         this.profileCompleted = true;
+        changed();
+    }
+
+    public boolean hasLocalPassword() {
+        return credentialType == CredentialType.PASSWORD && password != null;
+    }
+
+    private void changed() {
+        if (id != null) {
+            domainEvents.add(new UserChangedEvent(id));
+        }
+    }
+
+    @DomainEvents
+    Collection<Object> domainEvents() {
+        return List.copyOf(domainEvents);
+    }
+
+    @AfterDomainEventPublication
+    void clearDomainEvents() {
+        domainEvents.clear();
     }
 }
@@ -0,0 +1,129 @@
+package ted.oauth.user;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ted.oauth.config.UserCacheProperties;
+
+@Component
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final AsyncCache<Long, UserSnapshot> byId;
+    private final Cache<String, Long> idByEmail;
+    private final Cache<String, Long> idByNickname;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public UserCache(UserRepository userRepository,
+                     UserCacheProperties properties,
+                     MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.byId = newCacheBuilder(properties).buildAsync();
+        this.idByEmail = newCacheBuilder(properties).build();
+        this.idByNickname = newCacheBuilder(properties).build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "users.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, idByEmail, "users.by-email");
+        CaffeineCacheMetrics.monitor(meterRegistry, idByNickname, "users.by-nickname");
+    }
+
+    public Optional<UserSnapshot> findById(Long id) {
+        CompletableFuture<UserSnapshot> loading = new CompletableFuture<>();
+        CompletableFuture<UserSnapshot> existing = byId.asMap().putIfAbsent(id, loading);
+        if (existing != null) {
+            return Optional.ofNullable(join(existing));
+        }
+
+        try {
+            UserSnapshot loaded = userRepository.findById(id).map(this::index).orElse(null);
+            loading.complete(loaded);
+            return Optional.ofNullable(loaded);
+        } catch (RuntimeException ex) {
+            loading.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    public Optional<UserSnapshot> findByEmail(String email) {
+        return findByKey(email, idByEmail, UserSnapshot::email, userRepository::findByEmail);
+    }
+
+    public Optional<UserSnapshot> findByNickname(String nickname) {
+        return findByKey(nickname, idByNickname, UserSnapshot::nickname, userRepository::findByNickname);
+    }
+
+    public void evict(Long id) {
+        invalidations.incrementAndGet();
+        CompletableFuture<UserSnapshot> future = byId.asMap().remove(id);
+        UserSnapshot removed = future != null && future.isDone() && !future.isCompletedExceptionally()
+                ? future.join()
+                : null;
+        if (removed != null) {
+            idByEmail.invalidate(removed.email());
+            idByNickname.invalidate(removed.nickname());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.userId());
+    }
+
+    private Optional<UserSnapshot> findByKey(String key,
+                                             Cache<String, Long> index,
+                                             Function<UserSnapshot, String> keyOf,
+                                             Function<String, Optional<User>> loader) {
+        Long id = index.getIfPresent(key);
+        if (id != null) {
+            UserSnapshot cached = byId.synchronous().getIfPresent(id);
+            if (cached != null && key.equals(keyOf.apply(cached))) {
+                return Optional.of(cached);
+            }
+            index.invalidate(key);
+        }
+
+        long generation = invalidations.get();
+        Optional<UserSnapshot> loaded = loader.apply(key).map(this::index);
+        loaded.ifPresent(snapshot -> cacheLoaded(snapshot, generation));
+        return loaded;
+    }
+
+    private void cacheLoaded(UserSnapshot snapshot, long generation) {
+        byId.synchronous().put(snapshot.id(), snapshot);
+        if (invalidations.get() != generation) {
+            byId.synchronous().invalidate(snapshot.id());
+        }
+    }
+
+    private static UserSnapshot join(CompletableFuture<UserSnapshot> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+        }
+    }
+
+    private UserSnapshot index(User user) {
+        UserSnapshot snapshot = UserSnapshot.from(user);
+        idByEmail.put(snapshot.email(), snapshot.id());
+        idByNickname.put(snapshot.nickname(), snapshot.id());
+        return snapshot;
+    }
+
+    private static Caffeine<Object, Object> newCacheBuilder(UserCacheProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats();
+    }
+}
@@ -0,0 +1,4 @@
+package ted.oauth.user;
+
+public record UserChangedEvent(Long userId) {
+}
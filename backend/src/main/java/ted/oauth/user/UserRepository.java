@@ -1,11 +1,14 @@
 package ted.oauth.user;
 
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, SocialUserInsert {
 
     Optional<User> findByEmail(String email);
 
@@ -14,4 +17,21 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
 
     boolean existsByNickname(String nickname);
+
+    @Query("select u.password from User u where u.id = :id")
+    Optional<String> findPasswordById(@Param("id") Long id);
+
+    @Query("select u.id from User u where u.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+
+    @Query("select u.nickname from User u where u.nickname >= :prefix and u.nickname < :prefixUpper")
+    List<String> findNicknamesBetween(@Param("prefix") String prefix, @Param("prefixUpper") String prefixUpper);
+
+    default List<String> findNicknamesStartingWith(String prefix) {
+        String prefixUpper = prefix.substring(0, prefix.length() - 1)
+                + (char) (prefix.charAt(prefix.length() - 1) + 1);
+        return findNicknamesBetween(prefix, prefixUpper).stream()
+                .filter(nickname -> nickname.startsWith(prefix))
+                .toList();
+    }
 }
@@ -0,0 +1,46 @@
+package ted.oauth.user;
+
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class UserService {
+
+    private final UserRepository userRepository;
+
+    public User completeProfile(Long userId,
+                                String name,
+                                String nickname,
+                                Gender gender,
+                                LocalDate birthday,
+                                String introduce) {
+        User user = load(userId);
+        user.completeProfile(name, nickname, gender, birthday, introduce);
+        return changed(user);
+    }
+
+    public User updateIntroduce(Long userId, String introduce) {
+        User user = load(userId);
+        user.updateIntroduce(introduce);
+        return changed(user);
+    }
+
+    public User updatePassword(Long userId, String encodedPassword) {
+        User user = load(userId);
+        user.updatePassword(encodedPassword);
+        return changed(user);
+    }
+
+    private User load(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
+    }
+
+    private User changed(User user) {
+        return userRepository.save(user);
+    }
+}
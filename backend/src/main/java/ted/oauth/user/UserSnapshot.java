@@ -0,0 +1,36 @@
+package ted.oauth.user;
+
+import java.time.LocalDate;
+
+public record UserSnapshot(
+        Long id,
+        String email,
+        String name,
+        String nickname,
+        CredentialType credentialType,
+        Gender gender,
+        LocalDate birthday,
+        String introduce,
+        boolean profileCompleted,
+        String role
+) {
+
+    public boolean hasLocalPassword() {
+        return credentialType == CredentialType.PASSWORD;
+    }
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(
+                user.getId(),
+                user.getEmail(),
+                user.getName(),
+                user.getNickname(),
+                user.getCredentialType(),
+                user.getGender(),
+                user.getBirthday(),
+                user.getIntroduce(),
+                user.isProfileCompleted(),
+                user.getRole()
+        );
+    }
+}
@@ -0,0 +1,54 @@
+package ted.oauth.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import ted.oauth.config.LoginRateLimitProperties;
+
+class ClientIpResolverTest {
+
+    @Test
+    void ignoresForwardedHeaderFromUntrustedPeer() {
+        ClientIpResolver resolver = resolver(List.of("10.0.0.0/8"));
+
+        assertThat(resolver.resolve(request("203.0.113.7", "198.51.100.1"))).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void ignoresForwardedHeaderWithoutTrustedProxies() {
+        ClientIpResolver resolver = resolver(List.of());
+
+        assertThat(resolver.resolve(request("10.0.0.5", "198.51.100.1"))).isEqualTo("10.0.0.5");
+    }
+
+    @Test
+    void takesRightmostUntrustedHopBehindTrustedProxies() {
+        ClientIpResolver resolver = resolver(List.of("10.0.0.0/8"));
+
+        assertThat(resolver.resolve(request("10.0.0.5", "1.2.3.4, 198.51.100.1, 10.0.0.9")))
+                .isEqualTo("198.51.100.1");
+    }
+
+    @Test
+    void stopsAtMalformedHop() {
+        ClientIpResolver resolver = resolver(List.of("10.0.0.0/8"));
+
+        assertThat(resolver.resolve(request("10.0.0.5", "198.51.100.1, unknown, 10.0.0.9")))
+                .isEqualTo("10.0.0.9");
+    }
+
+    private ClientIpResolver resolver(List<String> trustedProxies) {
+        LoginRateLimitProperties properties = new LoginRateLimitProperties();
+        properties.setTrustedProxies(trustedProxies);
+        return new ClientIpResolver(properties);
+    }
+
+    private MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        return request;
+    }
+}
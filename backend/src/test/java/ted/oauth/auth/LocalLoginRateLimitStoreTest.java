@@ -0,0 +1,59 @@
+package ted.oauth.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class LocalLoginRateLimitStoreTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+    private static final long WINDOW_MILLIS = WINDOW.toMillis();
+
+    private final AtomicLong clock = new AtomicLong(WINDOW_MILLIS * 1000);
+    private final LocalLoginRateLimitStore store = new LocalLoginRateLimitStore(1024, clock::get);
+
+    @Test
+    void countsEveryAttemptWithinWindow() {
+        for (int attempt = 1; attempt <= 10; attempt++) {
+            clock.addAndGet(1000);
+            assertThat(store.recordAttempt(LoginRateLimitScope.IDENTIFIER, "user@example.com", WINDOW))
+                    .isEqualTo(attempt);
+        }
+    }
+
+    @Test
+    void weightsPreviousWindowByRemainingOverlap() {
+        record(LoginRateLimitScope.IP, "10.0.0.1", 10);
+
+        clock.addAndGet(WINDOW_MILLIS + WINDOW_MILLIS / 4);
+        assertThat(store.recordAttempt(LoginRateLimitScope.IP, "10.0.0.1", WINDOW)).isCloseTo(8.5, within(1e-9));
+
+        clock.addAndGet(WINDOW_MILLIS / 4);
+        assertThat(store.recordAttempt(LoginRateLimitScope.IP, "10.0.0.1", WINDOW)).isCloseTo(7.0, within(1e-9));
+    }
+
+    @Test
+    void forgetsAttemptsOlderThanTwoWindows() {
+        record(LoginRateLimitScope.IP, "10.0.0.1", 10);
+
+        clock.addAndGet(WINDOW_MILLIS * 2);
+        assertThat(store.recordAttempt(LoginRateLimitScope.IP, "10.0.0.1", WINDOW)).isEqualTo(1.0);
+    }
+
+    @Test
+    void keepsKeysAndScopesApart() {
+        record(LoginRateLimitScope.IP, "10.0.0.1", 10);
+
+        assertThat(store.recordAttempt(LoginRateLimitScope.IP, "10.0.0.2", WINDOW)).isEqualTo(1.0);
+        assertThat(store.recordAttempt(LoginRateLimitScope.IDENTIFIER, "10.0.0.1", WINDOW)).isEqualTo(1.0);
+    }
+
+    private void record(LoginRateLimitScope scope, String key, int attempts) {
+        for (int i = 0; i < attempts; i++) {
+            store.recordAttempt(scope, key, WINDOW);
+        }
+    }
+}
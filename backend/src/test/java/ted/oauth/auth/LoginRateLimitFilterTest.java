@@ -0,0 +1,61 @@
+package ted.oauth.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import ted.oauth.config.LoginRateLimitProperties;
+
+class LoginRateLimitFilterTest {
+
+    private final LoginRateLimitProperties properties = properties();
+    private final LoginRateLimitFilter filter = new LoginRateLimitFilter(
+            new LocalLoginRateLimitStore(1024),
+            properties,
+            new ObjectMapper(),
+            new AuthMetrics(new SimpleMeterRegistry()),
+            new ClientIpResolver(properties));
+
+    @Test
+    void limitsOneIdentifierAcrossManyIps() throws Exception {
+        for (int i = 0; i < properties.getMaxAttemptsPerIdentifier(); i++) {
+            assertThat(login("victim@example.com", "203.0.113." + i)).isEqualTo(200);
+        }
+
+        assertThat(login("victim@example.com", "198.51.100.1")).isEqualTo(429);
+        assertThat(login("other@example.com", "198.51.100.1")).isEqualTo(200);
+    }
+
+    @Test
+    void limitsOneIdentifierFromOneIpBeforeTheAccountLimit() throws Exception {
+        for (int i = 0; i < properties.getMaxAttemptsPerIdentifierAndIp(); i++) {
+            assertThat(login("victim@example.com", "203.0.113.7")).isEqualTo(200);
+        }
+
+        assertThat(login("victim@example.com", "203.0.113.7")).isEqualTo(429);
+        assertThat(login("victim@example.com", "198.51.100.1")).isEqualTo(200);
+    }
+
+    private int login(String identifier, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr(remoteAddr);
+        request.setContentType("application/json");
+        request.setContent(("{\"identifier\":\"" + identifier + "\",\"password\":\"secret\"}")
+                .getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+
+    private static LoginRateLimitProperties properties() {
+        LoginRateLimitProperties properties = new LoginRateLimitProperties();
+        properties.setMaxAttemptsPerIdentifier(6);
+        properties.setMaxAttemptsPerIdentifierAndIp(3);
+        return properties;
+    }
+}
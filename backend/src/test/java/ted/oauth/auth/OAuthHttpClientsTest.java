@@ -0,0 +1,42 @@
+package ted.oauth.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.InterceptingClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import ted.oauth.config.OAuthCircuitBreakerProperties;
+import ted.oauth.config.OAuthHttpClientProperties;
+
+class OAuthHttpClientsTest {
+
+    @Test
+    void bulkheadRejectionsDoNotTripTheCircuitBreaker() throws Exception {
+        OAuthCircuitBreakerProperties breakerProperties = new OAuthCircuitBreakerProperties();
+        breakerProperties.setMinimumCalls(5);
+        ProviderCircuitBreaker circuitBreaker = new ProviderCircuitBreaker(breakerProperties);
+
+        OAuthHttpClientProperties.Client client = new OAuthHttpClientProperties.Client();
+        client.setMaxConcurrentRequests(0);
+        client.setBulkheadWait(Duration.ZERO);
+
+        InterceptingClientHttpRequestFactory requestFactory = new InterceptingClientHttpRequestFactory(
+                new SimpleClientHttpRequestFactory(),
+                OAuthHttpClients.interceptors("google", "token", circuitBreaker, client,
+                        new AuthMetrics(new SimpleMeterRegistry())));
+
+        for (int i = 0; i < 20; i++) {
+            assertThatThrownBy(() -> requestFactory
+                    .createRequest(URI.create("http://127.0.0.1:9/token"), HttpMethod.POST)
+                    .execute())
+                    .isInstanceOf(OAuthProviderBusyException.class);
+        }
+
+        assertThat(circuitBreaker.state()).isEqualTo(ProviderCircuitBreaker.State.CLOSED);
+    }
+}
@@ -0,0 +1,122 @@
+package ted.oauth.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+@SpringBootTest(properties = {
+        "spring.security.oauth2.client.registration.google.client-id=test-google",
+        "spring.security.oauth2.client.registration.kakao.client-id=test-kakao",
+        "spring.security.oauth2.client.registration.naver.client-id=test-naver",
+        "spring.security.oauth2.client.registration.apple.client-id=test-apple",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "password-hashing.calibrate=false"
+})
+class SocialUserProvisioningRaceTest {
+
+    private static final int CONCURRENT_LOGINS = 16;
+    private static final int CONCURRENT_NAMESAKES = 4;
+
+    private static final EmbeddedPostgres POSTGRES = startPostgres();
+
+    @Autowired
+    private CustomOAuth2UserService customOAuth2UserService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        POSTGRES.close();
+    }
+
+    @Test
+    void concurrentFirstLoginsForSameIdentityCreateOneUserAndOneSocialAccount() throws Exception {
+        Map<String, Object> attributes = Map.of(
+                "sub", "race-subject",
+                "email", "race@example.com",
+                "name", "Race Tester");
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<UserPrincipal>> logins = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_LOGINS)) {
+            for (int i = 0; i < CONCURRENT_LOGINS; i++) {
+                logins.add(executor.submit(() -> {
+                    start.await();
+                    return customOAuth2UserService.provision("google", attributes);
+                }));
+            }
+            start.countDown();
+
+            List<Long> userIds = new ArrayList<>();
+            for (Future<UserPrincipal> login : logins) {
+                userIds.add(login.get().getId());
+            }
+            assertThat(userIds).containsOnly(userIds.get(0));
+        }
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM users WHERE email = 'race@example.com'", Long.class)).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM social_account WHERE provider = 'GOOGLE' AND provider_user_id = 'race-subject'",
+                Long.class)).isEqualTo(1L);
+    }
+
+    @Test
+    void concurrentFirstLoginsForDifferentIdentitiesWithSameNameGetDistinctNicknames() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<UserPrincipal>> logins = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_NAMESAKES)) {
+            for (int i = 0; i < CONCURRENT_NAMESAKES; i++) {
+                Map<String, Object> attributes = Map.of(
+                        "sub", "namesake-" + i,
+                        "email", "namesake" + i + "@example.com",
+                        "name", "Namesake");
+                logins.add(executor.submit(() -> {
+                    start.await();
+                    return customOAuth2UserService.provision("google", attributes);
+                }));
+            }
+            start.countDown();
+
+            for (Future<UserPrincipal> login : logins) {
+                assertThat(login.get().getId()).isNotNull();
+            }
+        }
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(DISTINCT nickname) FROM users WHERE email LIKE 'namesake%@example.com'", Long.class))
+                .isEqualTo(CONCURRENT_NAMESAKES);
+    }
+
+    private static EmbeddedPostgres startPostgres() {
+        try {
+            return EmbeddedPostgres.start();
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
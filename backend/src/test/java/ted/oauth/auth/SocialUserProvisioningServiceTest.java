@@ -0,0 +1,32 @@
+package ted.oauth.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class SocialUserProvisioningServiceTest {
+
+    @Test
+    void picksSmallestFreeSuffix() {
+        Set<String> taken = Set.of("kim", "kim1", "kim2", "kim4", "kim01", "kimbap");
+
+        assertThat(SocialUserProvisioningService.nextSequentialNickname("kim", taken)).isEqualTo("kim3");
+    }
+
+    @Test
+    void ignoresHugeSuffixesWithoutAllocatingForThem() {
+        Set<String> taken = new HashSet<>(Set.of("kim", "kim1", "kim999999999"));
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        String nickname = SocialUserProvisioningService.nextSequentialNickname("kim", taken);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertThat(nickname).isEqualTo("kim2");
+        assertThat(allocated).isLessThan(1024 * 1024);
+    }
+}
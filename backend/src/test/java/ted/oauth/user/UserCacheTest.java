@@ -0,0 +1,112 @@
+package ted.oauth.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import ted.oauth.config.UserCacheProperties;
+
+class UserCacheTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserCache userCache =
+            new UserCache(userRepository, new UserCacheProperties(), new SimpleMeterRegistry());
+
+    @Test
+    void loadsConcurrentMissesForOneIdOnce() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userRepository.findById(1L)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(user(1L, "before"));
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Optional<UserSnapshot>>> results = new ArrayList<>();
+            results.add(executor.submit(() -> userCache.findById(1L)));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> userCache.findById(1L)));
+            }
+            release.countDown();
+
+            for (Future<Optional<UserSnapshot>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).map(UserSnapshot::introduce).contains("before");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void dropsSnapshotLoadedBeforeAnEviction() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userRepository.findById(1L))
+                .thenAnswer(invocation -> {
+                    loading.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return Optional.of(user(1L, "before"));
+                })
+                .thenReturn(Optional.of(user(1L, "after")));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Optional<UserSnapshot>> stale = executor.submit(() -> userCache.findById(1L));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            userCache.onUserChanged(new UserChangedEvent(1L));
+            release.countDown();
+            assertThat(stale.get(5, TimeUnit.SECONDS)).map(UserSnapshot::introduce).contains("before");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(userCache.findById(1L)).map(UserSnapshot::introduce).contains("after");
+    }
+
+    @Test
+    void doesNotCacheMissingUsers() {
+        when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
+
+        assertThat(userCache.findById(1L)).isEmpty();
+        assertThat(userCache.findById(1L)).isEmpty();
+
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void userRegistersChangeEventForCacheEviction() {
+        User user = user(1L, "before");
+
+        user.updateIntroduce("after");
+
+        assertThat(user.domainEvents()).containsExactly(new UserChangedEvent(1L));
+        user.clearDomainEvents();
+        assertThat(user.domainEvents()).isEmpty();
+    }
+
+    private static User user(Long id, String introduce) {
+        User user = User.create("user" + id + "@example.com", "name", "nick" + id, "{bcrypt}hash",
+                Gender.MALE, LocalDate.of(2000, 1, 1), introduce, true);
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
@@ -1,6 +1,6 @@
 "use client";
 
-import { useCallback, useState } from "react";
+import { useCallback, useEffect, useState } from "react";
 import { useRouter } from "next/navigation";
 import { Button, Card, CardBody, CardHeader, Form, TextField } from "@repo/ui";
 import { tokenStorage } from "@/lib/token-storage";
@@ -30,6 +30,19 @@ const socialProviders = [
   }
 ];
 
+function socialErrorMessage(search: string) {
+  const params = new URLSearchParams(search);
+  const error = params.get("oauth_error");
+  if (error === "provider_unavailable") {
+    const provider = socialProviders.find((item) => item.route.endsWith(`/${params.get("provider")}`));
+    return `${provider?.name ?? "소셜 로그인"} 서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도하거나 다른 방법으로 로그인해 주세요.`;
+  }
+  if (error) {
+    return "소셜 로그인에 실패했습니다. 다시 시도해 주세요.";
+  }
+  return null;
+}
+
 export default function LoginPage() {
   const router = useRouter();
   const [formState, setFormState] = useState<LoginFormState>({ identifier: "", password: "" });
@@ -37,6 +50,10 @@ export default function LoginPage() {
   const [error, setError] = useState<string | null>(null);
   const [socialError, setSocialError] = useState<string | null>(null);
 
+  useEffect(() => {
+    setSocialError(socialErrorMessage(window.location.search));
+  }, []);
+
   const handleSubmit = useCallback(
     async (event: React.FormEvent<HTMLFormElement>) => {
       event.preventDefault();
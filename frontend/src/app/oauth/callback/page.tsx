@@ -8,7 +8,9 @@ function parseHash(hash: string) {
   const params = new URLSearchParams(hash.startsWith("#") ? hash.substring(1) : hash);
   return {
     accessToken: params.get("access_token"),
-    refreshToken: params.get("refresh_token")
+    refreshToken: params.get("refresh_token"),
+    error: params.get("error"),
+    provider: params.get("provider")
   };
 }
 
@@ -16,9 +18,15 @@ export default function OAuthCallbackPage() {
   const router = useRouter();
 
   useEffect(() => {
-    const { accessToken, refreshToken } = parseHash(window.location.hash);
+    const { accessToken, refreshToken, error, provider } = parseHash(window.location.hash);
 
-    if (accessToken && refreshToken) {
+    if (error) {
+      const query = new URLSearchParams({ oauth_error: error });
+      if (provider) {
+        query.set("provider", provider);
+      }
+      router.replace(`/login?${query.toString()}`);
+    } else if (accessToken && refreshToken) {
       tokenStorage.setTokens(accessToken, refreshToken);
       router.replace("/?profile=needs");
     } else {